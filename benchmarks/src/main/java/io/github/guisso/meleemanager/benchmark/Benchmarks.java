@@ -0,0 +1,57 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2025 Luis Guisso &lt;luis.guisso at ifnmg.edu.br&gt;.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package io.github.guisso.meleemanager.benchmark;
+
+import java.util.Arrays;
+import org.openjdk.jmh.Main;
+
+/**
+ * Runs the benchmarks, writing the results as JSON to {@code jmh-result.json}
+ * unless a result format is given.
+ * <p>
+ * Accepts every JMH option, e.g. {@code java -jar benchmarks.jar Melee -f 1}.
+ *
+ * @author Luis Guisso &lt;luis.guisso at ifnmg.edu.br&gt;
+ * @version 0.1
+ * @since 0.1, Oct 18, 2026
+ */
+public final class Benchmarks {
+
+    private Benchmarks() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        if (Arrays.asList(args).contains("-rf")) {
+            Main.main(args);
+            return;
+        }
+
+        String[] json = Arrays.copyOf(args, args.length + 4);
+        json[args.length] = "-rf";
+        json[args.length + 1] = "json";
+        json[args.length + 2] = "-rff";
+        json[args.length + 3] = "jmh-result.json";
+        Main.main(json);
+    }
+}
@@ -0,0 +1,66 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2025 Luis Guisso &lt;luis.guisso at ifnmg.edu.br&gt;.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package io.github.guisso.meleemanager.benchmark;
+
+import io.github.guisso.jankenpon.AbstractPlayer;
+import io.github.guisso.jankenpon.Move;
+
+/**
+ * Player that cycles through the playable moves from a given offset, so
+ * benchmarks measure the manager rather than a strategy
+ *
+ * @author Luis Guisso &lt;luis.guisso at ifnmg.edu.br&gt;
+ * @version 0.1
+ * @since 0.1, Oct 18, 2026
+ */
+public final class CyclePlayer
+        extends AbstractPlayer {
+
+    private static final Move[] MOVES = Move.values();
+
+    private final String name;
+    private int next;
+
+    /**
+     * @param name Developer name
+     * @param offset First move, any number
+     */
+    public CyclePlayer(String name, int offset) {
+        this.name = name;
+        this.next = Math.floorMod(offset, MOVES.length - 1);
+    }
+
+    @Override
+    public String getDeveloperName() {
+        return name;
+    }
+
+    @Override
+    public Move makeMyMove(Move opponentPreviousMove) {
+        // Move.NONE is the first one
+        Move move = MOVES[1 + next];
+        next = (next + 1) % (MOVES.length - 1);
+        return move;
+    }
+}
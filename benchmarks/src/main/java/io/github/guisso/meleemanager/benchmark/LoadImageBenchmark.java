@@ -0,0 +1,88 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2025 Luis Guisso &lt;luis.guisso at ifnmg.edu.br&gt;.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package io.github.guisso.meleemanager.benchmark;
+
+import io.github.guisso.jankenpon.Result;
+import io.github.guisso.jankenpon.Util;
+import io.github.guisso.meleemanager.gui.IconCache;
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+import javax.swing.Icon;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Rendering of the result images, transcoded on every call or taken from
+ * the GUI cache
+ *
+ * @author Luis Guisso &lt;luis.guisso at ifnmg.edu.br&gt;
+ * @version 0.1
+ * @since 0.1, Oct 18, 2026
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class LoadImageBenchmark {
+
+    // Small icon and current turn sizes
+    @Param({"32", "200"})
+    public float size;
+
+    private Result[] results;
+    private IconCache cache;
+    private int next;
+
+    @Setup
+    public void setUp() {
+        System.setProperty("java.awt.headless", "true");
+        results = Arrays.stream(Result.values())
+                .filter(result -> result.IMAGE_PATH != null)
+                .toArray(Result[]::new);
+        cache = new IconCache();
+        cache.prerender(size);
+    }
+
+    @Benchmark
+    public Icon transcode() {
+        Result result = results[next++ % results.length];
+        return Util.loadImage(result.IMAGE_PATH, size, 0);
+    }
+
+    @Benchmark
+    public Icon cached() {
+        return cache.get(results[next++ % results.length], size);
+    }
+}
@@ -0,0 +1,217 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2025 Luis Guisso &lt;luis.guisso at ifnmg.edu.br&gt;.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package io.github.guisso.meleemanager.benchmark;
+
+import io.github.guisso.meleemanager.PlayerLoader;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.jar.JarEntry;
+import java.util.jar.JarOutputStream;
+import java.util.stream.Stream;
+import javax.tools.JavaCompiler;
+import javax.tools.ToolProvider;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Player loading from a directory of synthetic jars, each one with a player
+ * and some helper classes. Compiling them needs a JDK.
+ * <p>
+ * A cold load finds no index and reads every class header, a warm one finds
+ * every jar in the index.
+ *
+ * @author Luis Guisso &lt;luis.guisso at ifnmg.edu.br&gt;
+ * @version 0.1
+ * @since 0.1, Oct 18, 2026
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class LoadPlayersBenchmark {
+
+    private static final int HELPERS = 20;
+
+    @Param({"10", "100"})
+    public int jars;
+
+    @Param({"cold", "warm"})
+    public String index;
+
+    private Path directory;
+    private List<PlayerLoader.LoadedJar> loaded;
+
+    @Setup
+    public void setUp() throws IOException, ReflectiveOperationException {
+        directory = Files.createTempDirectory("players");
+        Path sources = Files.createTempDirectory("sources");
+        Path classes = Files.createTempDirectory("classes");
+
+        try {
+            List<String> files = new ArrayList<>();
+            for (int jar = 0; jar < jars; jar++) {
+                files.add(source(sources, jar).toString());
+            }
+            compile(classes, files);
+
+            for (int jar = 0; jar < jars; jar++) {
+                jar(classes.resolve("synthetic").resolve("p" + jar),
+                        directory.resolve(String.format("player%03d.jar", jar)));
+            }
+        } finally {
+            delete(sources);
+            delete(classes);
+        }
+
+        // Fills the index
+        loaded = new PlayerLoader(directory).load();
+        closeLoaders();
+    }
+
+    @Setup(Level.Invocation)
+    public void setUpInvocation() throws IOException {
+        if (index.equals("cold")) {
+            Files.deleteIfExists(directory.resolve(".players.idx"));
+        }
+    }
+
+    @TearDown(Level.Invocation)
+    public void closeLoaders() throws IOException {
+        if (loaded != null) {
+            for (PlayerLoader.LoadedJar jar : loaded) {
+                URLClassLoader classLoader = jar.classLoader();
+                if (classLoader != null) {
+                    classLoader.close();
+                }
+            }
+            loaded = null;
+        }
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        delete(directory);
+    }
+
+    @Benchmark
+    public List<PlayerLoader.LoadedJar> load()
+            throws IOException, ReflectiveOperationException {
+        loaded = new PlayerLoader(directory).load();
+        return loaded;
+    }
+
+    /**
+     * One player per package, plus helper classes the loader must skip
+     */
+    static Path source(Path sources, int jar) throws IOException {
+        StringBuilder source = new StringBuilder()
+                .append("package synthetic.p").append(jar).append(";\n")
+                .append("import io.github.guisso.jankenpon.AbstractPlayer;\n")
+                .append("import io.github.guisso.jankenpon.Move;\n")
+                .append("public class Player").append(jar)
+                .append(" extends AbstractPlayer {\n")
+                .append("    private int next;\n")
+                .append("    @Override public String getDeveloperName() {\n")
+                .append("        return \"Synthetic ").append(jar).append("\";\n")
+                .append("    }\n")
+                .append("    @Override public Move makeMyMove(Move previous) {\n")
+                .append("        next = Helper0.next(next);\n")
+                .append("        return Move.values()[1 + next];\n")
+                .append("    }\n")
+                .append("}\n");
+        for (int helper = 0; helper < HELPERS; helper++) {
+            source.append("class Helper").append(helper).append(" {\n")
+                    .append("    static int next(int move) {\n")
+                    .append("        return (move + ").append(helper + 1)
+                    .append(") % (Move.values().length - 1);\n")
+                    .append("    }\n")
+                    .append("}\n");
+        }
+
+        Path file = sources.resolve("Player" + jar + ".java");
+        Files.writeString(file, source);
+        return file;
+    }
+
+    static void compile(Path classes, List<String> files) {
+        JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        if (compiler == null) {
+            throw new IllegalStateException("A JDK is needed to build the players");
+        }
+
+        List<String> arguments = new ArrayList<>(List.of(
+                "-classpath", System.getProperty("java.class.path"),
+                "-d", classes.toString(),
+                "-nowarn"));
+        arguments.addAll(files);
+
+        ByteArrayOutputStream errors = new ByteArrayOutputStream();
+        if (compiler.run(null, OutputStream.nullOutputStream(), errors,
+                arguments.toArray(String[]::new)) != 0) {
+            throw new IllegalStateException("Players do not compile\n" + errors);
+        }
+    }
+
+    static void jar(Path packageDir, Path jar) throws IOException {
+        try (JarOutputStream out = new JarOutputStream(Files.newOutputStream(jar));
+                Stream<Path> files = Files.list(packageDir)) {
+            for (Path file : files.sorted().toList()) {
+                out.putNextEntry(new JarEntry(
+                        packageDir.getParent().getParent()
+                                .relativize(file).toString().replace('\\', '/')));
+                out.write(Files.readAllBytes(file));
+                out.closeEntry();
+            }
+        }
+    }
+
+    static void delete(Path path) throws IOException {
+        try (Stream<Path> files = Files.walk(path)) {
+            for (Path file : files.sorted(Comparator.reverseOrder()).toList()) {
+                Files.delete(file);
+            }
+        }
+    }
+}
@@ -0,0 +1,101 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2025 Luis Guisso &lt;luis.guisso at ifnmg.edu.br&gt;.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package io.github.guisso.meleemanager.benchmark;
+
+import io.github.guisso.jankenpon.Result;
+import io.github.guisso.meleemanager.JanKenPonManager;
+import io.github.guisso.meleemanager.MatchLog;
+import io.github.guisso.meleemanager.MeleeSession;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Full melees of {@link JanKenPonManager#TURNS} turns, without logging
+ *
+ * @author Luis Guisso &lt;luis.guisso at ifnmg.edu.br&gt;
+ * @version 0.1
+ * @since 0.1, Oct 18, 2026
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class MeleeBenchmark {
+
+    private CyclePlayer playerA;
+    private CyclePlayer playerB;
+
+    @Setup
+    public void setUp() {
+        playerA = new CyclePlayer("Player A", 0);
+        playerB = new CyclePlayer("Player B", 1);
+        JanKenPonManager.setMatchLog(MatchLog.NONE);
+    }
+
+    /**
+     * Turn by turn through the static manager, as the GUI timer does
+     */
+    @Benchmark
+    public void manager(Blackhole blackhole) {
+        for (int turn = 0; turn < JanKenPonManager.TURNS; turn++) {
+            Result result = JanKenPonManager.melee(playerA, playerB);
+            blackhole.consume(result);
+        }
+    }
+
+    /**
+     * Whole melee in one session, as the tournament engine does, scored in
+     * one pass
+     */
+    @Benchmark
+    public int session() {
+        MeleeSession session = new MeleeSession(playerA, playerB);
+        session.playAll();
+        return session.getPlayerAScore() - session.getPlayerBScore();
+    }
+
+    /**
+     * Whole melee in one session, scored turn by turn
+     */
+    @Benchmark
+    public int sessionTurnByTurn() {
+        MeleeSession session = new MeleeSession(playerA, playerB);
+        while (!session.isFinished()) {
+            session.play();
+        }
+        return session.getPlayerAScore() - session.getPlayerBScore();
+    }
+}
@@ -0,0 +1,88 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2025 Luis Guisso &lt;luis.guisso at ifnmg.edu.br&gt;.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package io.github.guisso.meleemanager.benchmark;
+
+import io.github.guisso.jankenpon.AbstractPlayer;
+import io.github.guisso.meleemanager.JanKenPonManager;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Shuffling of the melee schedule. The same schedule is shuffled again on
+ * every invocation, which costs as much as shuffling a fresh one. The seed
+ * is fixed, so drawing and logging a new one is not measured.
+ *
+ * @author Luis Guisso &lt;luis.guisso at ifnmg.edu.br&gt;
+ * @version 0.1
+ * @since 0.1, Oct 18, 2026
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class RandomizeBenchmark {
+
+    private static final long SEED = 42;
+
+    @Param({"1000", "10000", "100000"})
+    public int pairs;
+
+    private AbstractPlayer[][] melees;
+
+    @Setup
+    public void setUp() {
+        // Enough players to fill the pairs without repeating a melee
+        int players = (int) Math.ceil((1 + Math.sqrt(1 + 8.0 * pairs)) / 2);
+        AbstractPlayer[] all = new AbstractPlayer[players];
+        for (int i = 0; i < players; i++) {
+            all[i] = new CyclePlayer("Player " + i, i);
+        }
+
+        melees = new AbstractPlayer[pairs][];
+        int count = 0;
+        for (int i = 0; i < players && count < pairs; i++) {
+            for (int j = i + 1; j < players && count < pairs; j++) {
+                melees[count++] = new AbstractPlayer[]{all[i], all[j]};
+            }
+        }
+    }
+
+    @Benchmark
+    public AbstractPlayer[][] randomize() {
+        JanKenPonManager.randomize(melees, SEED);
+        return melees;
+    }
+}
@@ -0,0 +1,172 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2025 Luis Guisso &lt;luis.guisso at ifnmg.edu.br&gt;.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package io.github.guisso.meleemanager.benchmark;
+
+import io.github.guisso.jankenpon.AbstractPlayer;
+import io.github.guisso.jankenpon.Move;
+import io.github.guisso.meleemanager.JanKenPonManager;
+import io.github.guisso.meleemanager.MeleeSession;
+import io.github.guisso.meleemanager.PlayerLoader;
+import io.github.guisso.meleemanager.PlayerSandbox;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Cost of a turn with the players in the manager and in sandbox hosts.
+ * Compiling the players needs a JDK.
+ * <p>
+ * {@code move} is the round trip of a single move. {@code melees} plays
+ * that many full melees at once between the same two players, so the
+ * sandbox pipelines their moves; divide by {@code melees} times
+ * {@link JanKenPonManager#TURNS} for the cost of a turn.
+ *
+ * @author Luis Guisso &lt;luis.guisso at ifnmg.edu.br&gt;
+ * @version 0.1
+ * @since 0.1, Oct 18, 2026
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SandboxBenchmark {
+
+    @Param({"in-process", "sandbox"})
+    public String players;
+
+    @Param({"1", "16"})
+    public int melees;
+
+    private Path directory;
+    private PlayerSandbox sandbox;
+    private List<PlayerLoader.LoadedJar> loaded;
+    private AbstractPlayer playerA;
+    private AbstractPlayer playerB;
+    private ExecutorService executor;
+
+    @Setup
+    public void setUp() throws IOException, ReflectiveOperationException {
+        directory = Files.createTempDirectory("players");
+        Path sources = Files.createTempDirectory("sources");
+        Path classes = Files.createTempDirectory("classes");
+
+        try {
+            LoadPlayersBenchmark.compile(classes, List.of(
+                    LoadPlayersBenchmark.source(sources, 0).toString(),
+                    LoadPlayersBenchmark.source(sources, 1).toString()));
+            for (int jar = 0; jar < 2; jar++) {
+                LoadPlayersBenchmark.jar(
+                        classes.resolve("synthetic").resolve("p" + jar),
+                        directory.resolve(String.format("player%03d.jar", jar)));
+            }
+        } finally {
+            LoadPlayersBenchmark.delete(sources);
+            LoadPlayersBenchmark.delete(classes);
+        }
+
+        List<AbstractPlayer> all;
+        if (players.equals("sandbox")) {
+            sandbox = new PlayerSandbox(directory);
+            all = sandbox.load();
+        } else {
+            loaded = new PlayerLoader(directory).load();
+            all = new ArrayList<>();
+            for (PlayerLoader.LoadedJar jar : loaded) {
+                all.addAll(jar.players());
+            }
+        }
+        playerA = all.get(0);
+        playerB = all.get(1);
+
+        executor = Executors.newFixedThreadPool(melees);
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        executor.shutdownNow();
+        if (sandbox != null) {
+            sandbox.close();
+        }
+        if (loaded != null) {
+            for (PlayerLoader.LoadedJar jar : loaded) {
+                if (jar.classLoader() != null) {
+                    jar.classLoader().close();
+                }
+            }
+        }
+        LoadPlayersBenchmark.delete(directory);
+    }
+
+    /**
+     * One move of one player
+     */
+    @Benchmark
+    public Move move() {
+        return playerA.makeMyMove(Move.ROCK);
+    }
+
+    /**
+     * Full melees played at the same time. The players race on their move
+     * counter in the manager, which only changes the moves they make.
+     */
+    @Benchmark
+    public int melees() throws InterruptedException, ExecutionException {
+        List<Callable<Integer>> tasks = new ArrayList<>(melees);
+        for (int melee = 0; melee < melees; melee++) {
+            tasks.add(() -> {
+                MeleeSession session = new MeleeSession(playerA, playerB);
+                session.playAll();
+                return session.getPlayerAScore();
+            });
+        }
+
+        int score = 0;
+        for (Future<Integer> future : executor.invokeAll(tasks)) {
+            score += future.get();
+        }
+        return score;
+    }
+}
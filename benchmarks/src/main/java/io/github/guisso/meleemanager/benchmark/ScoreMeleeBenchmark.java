@@ -0,0 +1,146 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2025 Luis Guisso &lt;luis.guisso at ifnmg.edu.br&gt;.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package io.github.guisso.meleemanager.benchmark;
+
+import io.github.guisso.jankenpon.Move;
+import io.github.guisso.meleemanager.JanKenPonManager;
+import io.github.guisso.meleemanager.OutcomeTable;
+import java.util.Arrays;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Scoring of whole recorded melees of random moves. The setup checks that
+ * every way of scoring agrees with the library before anything is measured.
+ *
+ * @author Luis Guisso &lt;luis.guisso at ifnmg.edu.br&gt;
+ * @version 0.1
+ * @since 0.1, Oct 18, 2026
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class ScoreMeleeBenchmark {
+
+    private static final int MELEES = 64;
+    private static final Move[] MOVES = Move.values();
+
+    private byte[][] playerAMoves;
+    private byte[][] playerBMoves;
+    private OutcomeTable table;
+    private int[] streak;
+    private int[] points;
+    private int[] scores;
+    private int next;
+
+    @Setup
+    public void setUp() {
+        SplittableRandom random = new SplittableRandom(42);
+        playerAMoves = new byte[MELEES][JanKenPonManager.TURNS];
+        playerBMoves = new byte[MELEES][JanKenPonManager.TURNS];
+        for (int melee = 0; melee < MELEES; melee++) {
+            // Half the melees without NONE, for longer streaks
+            int first = melee % 2;
+            for (int turn = 0; turn < JanKenPonManager.TURNS; turn++) {
+                playerAMoves[melee][turn] = (byte) random.nextInt(first, MOVES.length);
+                playerBMoves[melee][turn] = (byte) random.nextInt(first, MOVES.length);
+            }
+        }
+
+        table = OutcomeTable.getInstance();
+        streak = new int[2];
+        points = new int[2];
+        scores = new int[2];
+
+        for (int melee = 0; melee < MELEES; melee++) {
+            int[] expected = OutcomeTable.versus(playerAMoves[melee],
+                    playerBMoves[melee], JanKenPonManager.TURNS);
+            next = melee;
+            int[] turnByTurn = {turnByTurn(), scores[1]};
+            next = melee;
+            int[] onePass = {onePass(), scores[1]};
+            if (!Arrays.equals(expected, turnByTurn)
+                    || !Arrays.equals(expected, onePass)) {
+                throw new IllegalStateException("Melee " + melee
+                        + " scores differ: versus " + Arrays.toString(expected)
+                        + ", turn by turn " + Arrays.toString(turnByTurn)
+                        + ", one pass " + Arrays.toString(onePass));
+            }
+        }
+    }
+
+    /**
+     * The rules as implemented by the library
+     */
+    @Benchmark
+    public int versus() {
+        int melee = next++ & (MELEES - 1);
+        return OutcomeTable.versus(playerAMoves[melee], playerBMoves[melee],
+                JanKenPonManager.TURNS)[0];
+    }
+
+    /**
+     * The learned table, one turn at a time
+     */
+    @Benchmark
+    public int turnByTurn() {
+        int melee = next++ & (MELEES - 1);
+        byte[] a = playerAMoves[melee];
+        byte[] b = playerBMoves[melee];
+        streak[0] = 0;
+        streak[1] = 0;
+        scores[0] = 0;
+        scores[1] = 0;
+        for (int turn = 0; turn < JanKenPonManager.TURNS; turn++) {
+            table.score(MOVES[a[turn]], MOVES[b[turn]], streak, points);
+            scores[0] += points[0];
+            scores[1] += points[1];
+        }
+        return scores[0];
+    }
+
+    /**
+     * The flat tables, over the whole melee
+     */
+    @Benchmark
+    public int onePass() {
+        int melee = next++ & (MELEES - 1);
+        table.score(playerAMoves[melee], playerBMoves[melee],
+                JanKenPonManager.TURNS, scores);
+        return scores[0];
+    }
+}
@@ -0,0 +1,105 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2025 Luis Guisso &lt;luis.guisso at ifnmg.edu.br&gt;.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package io.github.guisso.meleemanager.benchmark;
+
+import io.github.guisso.jankenpon.Move;
+import io.github.guisso.jankenpon.Result;
+import io.github.guisso.meleemanager.OutcomeTable;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Scoring of a single turn, over a fixed sequence of random moves so the
+ * branch predictor can not learn it
+ *
+ * @author Luis Guisso &lt;luis.guisso at ifnmg.edu.br&gt;
+ * @version 0.1
+ * @since 0.1, Oct 18, 2026
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class VersusBenchmark {
+
+    private static final int MOVES = 4096;
+
+    private Move[] playerAMoves;
+    private Move[] playerBMoves;
+    private CyclePlayer playerA;
+    private CyclePlayer playerB;
+    private OutcomeTable table;
+    private int[] streak;
+    private int[] points;
+    private int next;
+
+    @Setup
+    public void setUp() {
+        Move[] moves = Move.values();
+        SplittableRandom random = new SplittableRandom(42);
+        playerAMoves = new Move[MOVES];
+        playerBMoves = new Move[MOVES];
+        for (int i = 0; i < MOVES; i++) {
+            playerAMoves[i] = moves[random.nextInt(moves.length)];
+            playerBMoves[i] = moves[random.nextInt(moves.length)];
+        }
+
+        playerA = new CyclePlayer("Player A", 0);
+        playerB = new CyclePlayer("Player B", 1);
+        table = OutcomeTable.getInstance();
+        streak = new int[2];
+        points = new int[2];
+    }
+
+    /**
+     * The rules as implemented by the library
+     */
+    @Benchmark
+    public Result versus() {
+        int i = next++ & (MOVES - 1);
+        return playerAMoves[i].versus(playerBMoves[i], playerA, playerB);
+    }
+
+    /**
+     * The same rules through the learned table
+     */
+    @Benchmark
+    public int outcomeTable() {
+        int i = next++ & (MOVES - 1);
+        table.score(playerAMoves[i], playerBMoves[i], streak, points);
+        return points[0] - points[1];
+    }
+}
@@ -0,0 +1,338 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2025 Luis Guisso &lt;luis.guisso at ifnmg.edu.br&gt;.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package io.github.guisso.meleemanager;
+
+import io.github.guisso.jankenpon.Move;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.locks.LockSupport;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Match log written to a file by a background thread.
+ * <p>
+ * Producers pack each record in two longs and publish it in a lock-free
+ * ring buffer (bounded multi-producer queue with per-slot sequence numbers).
+ * A single writer drains it, formats the CSV into a direct buffer and
+ * writes whole batches to a file channel. When the ring is full, producers
+ * wait for the writer instead of dropping records; if the writer has
+ * stopped, they fail with the writer's error.
+ *
+ * @author Luis Guisso &lt;luis.guisso at ifnmg.edu.br&gt;
+ * @version 0.1
+ * @since 0.1, Oct 18, 2026
+ */
+public final class AsyncMatchLog
+        implements MatchLog {
+
+    /**
+     * When buffered records are written to the file
+     *
+     * @param maxRecords Records buffered before a write
+     * @param maxDelay Longest time a record stays buffered
+     * @param force Whether each write is forced to the storage device
+     */
+    public record FlushPolicy(int maxRecords, Duration maxDelay, boolean force) {
+
+        public static final FlushPolicy DEFAULT
+                = new FlushPolicy(4096, Duration.ofSeconds(1), false);
+    }
+
+    private static final Logger logger
+            = Logger.getLogger(AsyncMatchLog.class.getName());
+
+    private static final byte[] HEADER
+            = "melee,turn,scoreA,moveA,moveB,scoreB\n".getBytes(StandardCharsets.US_ASCII);
+
+    // Widest record: 4 ints with sign and 2 move names
+    private static final int MAX_RECORD_BYTES = 4 * 11 + 2 * 32 + 6;
+
+    private static final Move[] MOVES = Move.values();
+    private static final byte[][] MOVE_NAMES = new byte[MOVES.length][];
+
+    static {
+        for (Move move : MOVES) {
+            MOVE_NAMES[move.ordinal()] = move.toString()
+                    .getBytes(StandardCharsets.US_ASCII);
+        }
+    }
+
+    private final FileChannel channel;
+    private final FlushPolicy policy;
+
+    // Ring buffer
+    private final int mask;
+    private final long[] records;
+    private final AtomicLongArray sequences;
+    private final AtomicLong tail;
+    private long head;
+
+    private final ByteBuffer buffer;
+    private final Thread writer;
+    private volatile boolean closed;
+    private volatile Exception failure;
+    private volatile long flushRequest;
+    private volatile long flushed;
+
+    /**
+     * @param file Log file, truncated if it exists
+     * @param capacity Records held by the ring buffer, rounded up to a power
+     * of two
+     * @param policy When records are written
+     * @throws IOException If the file can not be opened
+     */
+    public AsyncMatchLog(Path file, int capacity, FlushPolicy policy)
+            throws IOException {
+        int size = Integer.highestOneBit(Math.max(2, capacity - 1)) << 1;
+
+        this.channel = FileChannel.open(file,
+                StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING);
+        this.policy = policy;
+        this.mask = size - 1;
+        this.records = new long[size * 2];
+        this.sequences = new AtomicLongArray(size);
+        this.tail = new AtomicLong();
+        for (int i = 0; i < size; i++) {
+            sequences.set(i, i);
+        }
+
+        this.buffer = ByteBuffer.allocateDirect(
+                Math.max(64 * 1024, policy.maxRecords() * MAX_RECORD_BYTES));
+        this.channel.write(ByteBuffer.wrap(HEADER));
+
+        this.writer = new Thread(this::drain, "match-log-writer");
+        this.writer.setDaemon(true);
+        this.writer.start();
+    }
+
+    /**
+     * @param file Log file, truncated if it exists
+     * @throws IOException If the file can not be opened
+     */
+    public AsyncMatchLog(Path file)
+            throws IOException {
+        this(file, 1 << 16, FlushPolicy.DEFAULT);
+    }
+
+    @Override
+    public void record(int melee, int turn, int playerAScore,
+            Move playerAMove, Move playerBMove, int playerBScore) {
+
+        if (closed) {
+            throw new IllegalStateException("Match log closed");
+        }
+        if (failure != null) {
+            throw writerFailed();
+        }
+
+        long position = tail.get();
+        while (true) {
+            long available = sequences.get((int) position & mask) - position;
+
+            if (available == 0) {
+                if (tail.compareAndSet(position, position + 1)) {
+                    break;
+                }
+                position = tail.get();
+            } else if (available < 0) {
+                // Full, wait for the writer
+                if (!writer.isAlive()) {
+                    throw writerFailed();
+                }
+                LockSupport.unpark(writer);
+                Thread.yield();
+                position = tail.get();
+            } else {
+                position = tail.get();
+            }
+        }
+
+        int slot = (int) position & mask;
+        records[2 * slot] = ((long) melee << 32)
+                | ((long) (turn & 0xFFFF) << 16)
+                | (playerAMove.ordinal() << 8)
+                | playerBMove.ordinal();
+        records[2 * slot + 1] = ((long) playerAScore << 32)
+                | (playerBScore & 0xFFFFFFFFL);
+        sequences.lazySet(slot, position + 1);
+    }
+
+    /**
+     * @return The error that stopped the writer
+     */
+    private UncheckedIOException writerFailed() {
+        Exception cause = failure;
+        return new UncheckedIOException("Match log writer stopped",
+                cause instanceof IOException io ? io : new IOException(cause));
+    }
+
+    /**
+     * Blocks until every record published before the call is written
+     */
+    @Override
+    public void flush() {
+        long target = tail.get();
+        flushRequest = target;
+        while (flushed < target && writer.isAlive()) {
+            LockSupport.unpark(writer);
+            LockSupport.parkNanos(100_000);
+        }
+    }
+
+    @Override
+    public void close() {
+        if (closed) {
+            return;
+        }
+        flush();
+        closed = true;
+        LockSupport.unpark(writer);
+        try {
+            writer.join();
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Writer loop
+     */
+    private void drain() {
+        long maxDelay = policy.maxDelay().toNanos();
+        long lastWrite = System.nanoTime();
+        int pending = 0;
+
+        try {
+            while (true) {
+                boolean done = closed;
+                int drained = 0;
+
+                // Published records in order
+                while (sequences.get((int) head & mask) == head + 1) {
+                    int slot = (int) head & mask;
+                    format(records[2 * slot], records[2 * slot + 1]);
+                    sequences.lazySet(slot, head + mask + 1);
+                    head++;
+                    drained++;
+
+                    if (++pending >= policy.maxRecords()
+                            || buffer.remaining() < MAX_RECORD_BYTES) {
+                        write();
+                        pending = 0;
+                        lastWrite = System.nanoTime();
+                    }
+                }
+
+                boolean flushWanted = flushRequest > flushed && head >= flushRequest;
+                if (pending > 0 && (done || flushWanted
+                        || System.nanoTime() - lastWrite >= maxDelay)) {
+                    write();
+                    pending = 0;
+                    lastWrite = System.nanoTime();
+                }
+                if (pending == 0) {
+                    flushed = head;
+                }
+
+                if (done) {
+                    break;
+                }
+                if (drained == 0) {
+                    LockSupport.parkNanos(Math.min(maxDelay, 1_000_000));
+                }
+            }
+        } catch (IOException | RuntimeException ex) {
+            failure = ex;
+            logger.log(Level.SEVERE, "Match log stopped", ex);
+        } finally {
+            try {
+                channel.close();
+            } catch (IOException ex) {
+                logger.log(Level.WARNING, null, ex);
+            }
+        }
+    }
+
+    private void write()
+            throws IOException {
+        buffer.flip();
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+        buffer.clear();
+        if (policy.force()) {
+            channel.force(false);
+        }
+    }
+
+    private void format(long first, long second) {
+        putInt((int) (first >>> 32));
+        buffer.put((byte) ',');
+        putInt((int) (first >>> 16) & 0xFFFF);
+        buffer.put((byte) ',');
+        putInt((int) (second >>> 32));
+        buffer.put((byte) ',');
+        buffer.put(MOVE_NAMES[(int) (first >>> 8) & 0xFF]);
+        buffer.put((byte) ',');
+        buffer.put(MOVE_NAMES[(int) first & 0xFF]);
+        buffer.put((byte) ',');
+        putInt((int) second);
+        buffer.put((byte) '\n');
+    }
+
+    private void putInt(int value) {
+        if (value < 0) {
+            buffer.put((byte) '-');
+            if (value == Integer.MIN_VALUE) {
+                buffer.put("2147483648".getBytes(StandardCharsets.US_ASCII));
+                return;
+            }
+            value = -value;
+        }
+
+        int start = buffer.position();
+        do {
+            buffer.put((byte) ('0' + value % 10));
+            value /= 10;
+        } while (value > 0);
+
+        // Digits were written backwards
+        for (int i = start, j = buffer.position() - 1; i < j; i++, j--) {
+            byte digit = buffer.get(i);
+            buffer.put(i, buffer.get(j));
+            buffer.put(j, digit);
+        }
+    }
+}
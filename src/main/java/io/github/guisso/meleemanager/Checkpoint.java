@@ -0,0 +1,204 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2025 Luis Guisso &lt;luis.guisso at ifnmg.edu.br&gt;.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package io.github.guisso.meleemanager;
+
+import io.github.guisso.jankenpon.AbstractPlayer;
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Progress of a round-robin tournament: the schedule seed, the melees
+ * already played and the points of every player in them.
+ * <p>
+ * Written to a temporary file, synced and renamed over the previous
+ * checkpoint, so a crash leaves either the old or the new one.
+ *
+ * @author Luis Guisso &lt;luis.guisso at ifnmg.edu.br&gt;
+ * @version 0.1
+ * @since 0.1, Oct 18, 2026
+ */
+public final class Checkpoint {
+
+    private static final int MAGIC = 0x4A4B5043; // "JKPC"
+    private static final int VERSION = 1;
+
+    private final Long seed;
+    private final List<String> players;
+    private final int melees;
+    private final BitSet completed;
+    private final long[] scores;
+
+    /**
+     * @param seed Seed of the {@link Pairings} schedule, null if not
+     * shuffled
+     * @param players Developer and class name of each player
+     * @param melees Number of melees in the schedule
+     * @param completed Schedule positions already played
+     * @param scores Points of each player in those melees
+     */
+    public Checkpoint(Long seed, List<String> players, int melees,
+            BitSet completed, long[] scores) {
+        if (scores.length != players.size()) {
+            throw new IllegalArgumentException("One score per player expected");
+        }
+
+        this.seed = seed;
+        this.players = List.copyOf(players);
+        this.melees = melees;
+        this.completed = completed;
+        this.scores = scores;
+    }
+
+    /**
+     * @return Seed of the schedule, null if not shuffled
+     */
+    public Long getSeed() {
+        return seed;
+    }
+
+    /**
+     * @return Number of melees in the schedule
+     */
+    public int getMelees() {
+        return melees;
+    }
+
+    /**
+     * @return Schedule positions already played, not a copy
+     */
+    public BitSet getCompleted() {
+        return completed;
+    }
+
+    /**
+     * Matches the players of the checkpoint with the loaded ones
+     *
+     * @param loaded Players, in the order they were loaded
+     * @return Points of each player so far
+     * @throws IOException If the players differ from the checkpoint ones
+     */
+    public Map<AbstractPlayer, Long> getScores(List<AbstractPlayer> loaded)
+            throws IOException {
+        if (loaded.size() != players.size()) {
+            throw new IOException("Checkpoint has " + players.size()
+                    + " players, " + loaded.size() + " loaded");
+        }
+
+        Map<AbstractPlayer, Long> map = new IdentityHashMap<>();
+        for (int i = 0; i < players.size(); i++) {
+            if (!players.get(i).equals(Players.name(loaded.get(i)))) {
+                throw new IOException("Checkpoint player " + players.get(i)
+                        + " differs from " + Players.name(loaded.get(i)));
+            }
+            map.put(loaded.get(i), scores[i]);
+        }
+        return map;
+    }
+
+    /**
+     * Replaces the file atomically
+     *
+     * @param file Destination
+     * @throws IOException If the file can not be written
+     */
+    public void write(Path file)
+            throws IOException {
+        Path temporary = file.resolveSibling(file.getFileName() + ".tmp");
+
+        try (FileOutputStream stream = new FileOutputStream(temporary.toFile());
+                DataOutputStream out = new DataOutputStream(
+                        new BufferedOutputStream(stream))) {
+            out.writeInt(MAGIC);
+            out.writeShort(VERSION);
+            out.writeBoolean(seed != null);
+            out.writeLong(seed == null ? 0 : seed);
+            out.writeInt(melees);
+            out.writeInt(players.size());
+            for (int i = 0; i < players.size(); i++) {
+                out.writeUTF(players.get(i));
+                out.writeLong(scores[i]);
+            }
+
+            long[] words = completed.toLongArray();
+            out.writeInt(words.length);
+            for (long word : words) {
+                out.writeLong(word);
+            }
+
+            out.flush();
+            stream.getFD().sync();
+        }
+
+        Files.move(temporary, file,
+                StandardCopyOption.REPLACE_EXISTING,
+                StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    /**
+     * @param file A checkpoint
+     * @return Its contents
+     * @throws IOException If the file can not be read or is not a checkpoint
+     */
+    public static Checkpoint read(Path file)
+            throws IOException {
+        try (DataInputStream in = new DataInputStream(
+                new BufferedInputStream(Files.newInputStream(file)))) {
+            if (in.readInt() != MAGIC || in.readShort() != VERSION) {
+                throw new IOException("Not a checkpoint: " + file);
+            }
+
+            boolean shuffled = in.readBoolean();
+            long seed = in.readLong();
+            int melees = in.readInt();
+
+            int count = in.readInt();
+            List<String> players = new ArrayList<>(count);
+            long[] scores = new long[count];
+            for (int i = 0; i < count; i++) {
+                players.add(in.readUTF());
+                scores[i] = in.readLong();
+            }
+
+            long[] words = new long[in.readInt()];
+            for (int i = 0; i < words.length; i++) {
+                words[i] = in.readLong();
+            }
+
+            return new Checkpoint(shuffled ? seed : null, players, melees,
+                    BitSet.valueOf(words), scores);
+        }
+    }
+}
@@ -0,0 +1,176 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2025 Luis Guisso &lt;luis.guisso at ifnmg.edu.br&gt;.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package io.github.guisso.meleemanager;
+
+import io.github.guisso.jankenpon.AbstractPlayer;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Keeps the progress of a round-robin tournament and writes it as a
+ * {@link Checkpoint} at a fixed interval.
+ * <p>
+ * Listens to the engine: a finished melee only marks its position and adds
+ * its points under a short lock. Copies and writes happen on a writer
+ * thread, so the workers never wait for the disk.
+ *
+ * @author Luis Guisso &lt;luis.guisso at ifnmg.edu.br&gt;
+ * @version 0.1
+ * @since 0.1, Oct 18, 2026
+ */
+public final class CheckpointWriter
+        implements TournamentEngine.Listener, AutoCloseable {
+
+    private static final Logger logger
+            = Logger.getLogger(CheckpointWriter.class.getName());
+
+    private final Path file;
+    private final Long seed;
+    private final int melees;
+    private final List<String> names;
+    private final Map<AbstractPlayer, Integer> indexes;
+    private final ScheduledExecutorService writer;
+
+    // Guarded by this
+    private final BitSet completed;
+    private final long[] scores;
+    private long changes;
+    private long written;
+
+    /**
+     * @param file Destination, replaced on every write
+     * @param players All players, in the order they were loaded
+     * @param seed Seed of the {@link Pairings} schedule, null if not
+     * shuffled
+     * @param melees Number of melees in the schedule
+     * @param resumed Progress to continue from, null for none
+     * @param interval Time between writes
+     * @throws IOException If the resumed players differ from the given ones
+     */
+    public CheckpointWriter(Path file, List<AbstractPlayer> players, Long seed,
+            int melees, Checkpoint resumed, Duration interval)
+            throws IOException {
+        this.file = file;
+        this.seed = seed;
+        this.melees = melees;
+        this.names = new ArrayList<>(players.size());
+        this.indexes = new IdentityHashMap<>();
+        this.scores = new long[players.size()];
+
+        for (int i = 0; i < players.size(); i++) {
+            names.add(Players.name(players.get(i)));
+            indexes.put(players.get(i), i);
+        }
+
+        if (resumed == null) {
+            this.completed = new BitSet(melees);
+        } else {
+            Map<AbstractPlayer, Long> previous = resumed.getScores(players);
+            for (int i = 0; i < players.size(); i++) {
+                scores[i] = previous.get(players.get(i));
+            }
+            this.completed = (BitSet) resumed.getCompleted().clone();
+        }
+
+        this.writer = Executors.newSingleThreadScheduledExecutor(task -> {
+            Thread thread = new Thread(task, "checkpoint-writer");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long period = interval.toNanos();
+        writer.scheduleWithFixedDelay(this::write, period, period, TimeUnit.NANOSECONDS);
+    }
+
+    @Override
+    public void meleeFinished(int melee, MeleeSession session) {
+        int playerA = indexes.get(session.getPlayerA());
+        int playerB = indexes.get(session.getPlayerB());
+
+        synchronized (this) {
+            completed.set(melee);
+            scores[playerA] += session.getPlayerAScore();
+            scores[playerB] += session.getPlayerBScore();
+            changes++;
+        }
+    }
+
+    /**
+     * Stops the periodic writes and writes the final progress
+     *
+     * @throws IOException If the checkpoint can not be written
+     */
+    @Override
+    public void close()
+            throws IOException {
+        writer.shutdown();
+        try {
+            writer.awaitTermination(1, TimeUnit.MINUTES);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+
+        Checkpoint checkpoint = snapshot();
+        if (checkpoint != null) {
+            checkpoint.write(file);
+        }
+    }
+
+    /**
+     * Copies the progress if it changed since the last write
+     */
+    private synchronized Checkpoint snapshot() {
+        if (changes == written && written > 0) {
+            return null;
+        }
+        written = changes;
+        return new Checkpoint(seed, names, melees,
+                (BitSet) completed.clone(), scores.clone());
+    }
+
+    private void write() {
+        Checkpoint checkpoint = snapshot();
+        if (checkpoint != null) {
+            try {
+                checkpoint.write(file);
+            } catch (IOException ex) {
+                logger.log(Level.WARNING, "Checkpoint not written: " + file, ex);
+                synchronized (this) {
+                    // Retry on the next write
+                    written = -1;
+                }
+            }
+        }
+    }
+}
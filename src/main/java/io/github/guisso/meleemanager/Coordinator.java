@@ -0,0 +1,379 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2025 Luis Guisso &lt;luis.guisso at ifnmg.edu.br&gt;.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package io.github.guisso.meleemanager;
+
+import io.github.guisso.jankenpon.AbstractPlayer;
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.BlockingDeque;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingDeque;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Runs a round-robin tournament on {@link Worker} processes.
+ * <p>
+ * The {@link Pairings} schedule is split in units of consecutive positions.
+ * Every worker loads the same players, checked by name when it starts,
+ * rebuilds the schedule from the seed and plays the units it is sent,
+ * answering with the points of each melee. A worker that does not answer a
+ * unit within its deadline is killed. A unit in flight on a worker that
+ * dies is handed to another one, and the worker is restarted a few times
+ * before its slot gives up.
+ * <p>
+ * Protocol over the worker's stdin and stdout, big endian:
+ * <pre>
+ * worker      HELLO players (s4), name of each player (modified UTF-8)
+ * coordinator SETUP seeded (u1), seed (s8), threads (s4), move timeout and
+ *             CPU budget in ms (s8, 0 for none)
+ * coordinator UNIT id (s4), first (s4) and end (s4) positions
+ * worker      RESULT id (s4), melees (s4), points of player A and B of
+ *             each melee (s4)
+ * coordinator STOP
+ * </pre>
+ * Players that keep state between melees may reach other standings than
+ * in a single process, as they face their opponents in another order.
+ *
+ * @author Luis Guisso &lt;luis.guisso at ifnmg.edu.br&gt;
+ * @version 0.1
+ * @since 0.1, Oct 18, 2026
+ */
+public final class Coordinator {
+
+    static final byte HELLO = 1;
+    static final byte SETUP = 2;
+    static final byte UNIT = 3;
+    static final byte RESULT = 4;
+    static final byte STOP = 5;
+
+    private static final Logger logger
+            = Logger.getLogger(Coordinator.class.getName());
+
+    private final List<AbstractPlayer> players;
+    private final Map<AbstractPlayer, Integer> indexes;
+    private final Long seed;
+    private final int workers;
+    private final long melees;
+    private int unitSize = 4096;
+    private int workerThreads = 1;
+    private int maxRestarts = 3;
+    private Duration unitTimeout = Duration.ofMinutes(5);
+    private Duration moveTimeout;
+    private Duration cpuBudget;
+    private List<String> command;
+
+    // Kills workers that miss a deadline, during run()
+    private ScheduledExecutorService deadlines;
+
+    /**
+     * @param players All players, in the order they were loaded
+     * @param seed Seed of the {@link Pairings} schedule, null if not
+     * shuffled
+     * @param workers Number of worker processes
+     */
+    public Coordinator(List<AbstractPlayer> players, Long seed, int workers) {
+        if (workers < 1) {
+            throw new IllegalArgumentException("Workers must be positive");
+        }
+
+        this.players = List.copyOf(players);
+        this.indexes = new IdentityHashMap<>();
+        for (int i = 0; i < players.size(); i++) {
+            indexes.put(players.get(i), i);
+        }
+        this.seed = seed;
+        this.workers = workers;
+        this.melees = (long) players.size() * (players.size() - 1) / 2;
+        if (melees > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Too many melees: " + melees);
+        }
+
+        this.command = List.of(
+                Path.of(System.getProperty("java.home"), "bin", "java").toString(),
+                "-cp", System.getProperty("java.class.path"),
+                Worker.class.getName());
+    }
+
+    /**
+     * @param unitSize Melees sent to a worker at once
+     */
+    public void setUnitSize(int unitSize) {
+        if (unitSize < 1) {
+            throw new IllegalArgumentException("Unit size must be positive");
+        }
+        this.unitSize = unitSize;
+    }
+
+    /**
+     * @param workerThreads Threads playing melees in each worker
+     */
+    public void setWorkerThreads(int workerThreads) {
+        this.workerThreads = workerThreads;
+    }
+
+    /**
+     * @param maxRestarts Times a dead worker is started again
+     */
+    public void setMaxRestarts(int maxRestarts) {
+        this.maxRestarts = maxRestarts;
+    }
+
+    /**
+     * @param unitTimeout Time a worker has to start or to answer a unit
+     * before it is killed and the unit handed to another worker
+     */
+    public void setUnitTimeout(Duration unitTimeout) {
+        this.unitTimeout = unitTimeout;
+    }
+
+    /**
+     * Runs the moves of the workers under a {@link MoveWatchdog}
+     *
+     * @param moveTimeout Deadline of each move
+     * @param cpuBudget CPU time of a player in each melee, null for
+     * unlimited
+     */
+    public void setWatchdog(Duration moveTimeout, Duration cpuBudget) {
+        this.moveTimeout = moveTimeout;
+        this.cpuBudget = cpuBudget;
+    }
+
+    /**
+     * @param command Command line that starts a worker in the players'
+     * parent directory, by default this JVM's java and class path
+     */
+    public void setCommand(List<String> command) {
+        this.command = List.copyOf(command);
+    }
+
+    /**
+     * Plays every unit on the workers
+     *
+     * @return Players ordered by total score, ties broken by name
+     * @throws IOException If units are left after every worker gave up
+     * @throws InterruptedException If interrupted while waiting the workers
+     */
+    public List<Standing> run()
+            throws IOException, InterruptedException {
+
+        int units = (int) ((melees + unitSize - 1) / unitSize);
+        BlockingDeque<Integer> pending = new LinkedBlockingDeque<>();
+        for (int unit = 0; unit < units; unit++) {
+            pending.add(unit);
+        }
+
+        long[] scores = new long[players.size()];
+        AtomicInteger done = new AtomicInteger();
+        Pairings pairings = seed == null
+                ? new Pairings(players)
+                : new Pairings(players, seed);
+
+        deadlines = Executors.newSingleThreadScheduledExecutor(task -> {
+            Thread thread = new Thread(task, "coordinator-deadlines");
+            thread.setDaemon(true);
+            return thread;
+        });
+        try {
+            List<Thread> slots = new ArrayList<>(workers);
+            for (int slot = 0; slot < workers; slot++) {
+                int id = slot;
+                slots.add(Thread.ofPlatform()
+                        .name("coordinator-" + slot)
+                        .start(() -> slot(id, pending, units, done, pairings, scores)));
+            }
+            for (Thread slot : slots) {
+                slot.join();
+            }
+        } finally {
+            deadlines.shutdownNow();
+        }
+
+        if (done.get() < units) {
+            throw new IOException("Every worker failed, "
+                    + (units - done.get()) + " of " + units + " units left");
+        }
+
+        Map<AbstractPlayer, Long> map = new IdentityHashMap<>();
+        for (int i = 0; i < players.size(); i++) {
+            map.put(players.get(i), scores[i]);
+        }
+        return Standing.rank(players, map);
+    }
+
+    /**
+     * Keeps a worker busy, restarting it when it dies
+     */
+    private void slot(int slot, BlockingDeque<Integer> pending, int units,
+            AtomicInteger done, Pairings pairings, long[] scores) {
+
+        for (int restarts = 0; done.get() < units; restarts++) {
+            if (restarts > maxRestarts) {
+                logger.log(Level.SEVERE, "Worker {0} gave up", slot);
+                return;
+            }
+
+            Process process = null;
+            try {
+                process = new ProcessBuilder(command)
+                        .redirectError(ProcessBuilder.Redirect.INHERIT)
+                        .start();
+                serve(process, pending, units, done, pairings, scores);
+                process.waitFor(10, TimeUnit.SECONDS);
+                return;
+            } catch (IOException ex) {
+                logger.log(Level.WARNING, "Worker " + slot + " failed", ex);
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                return;
+            } finally {
+                if (process != null) {
+                    process.destroyForcibly();
+                }
+            }
+        }
+    }
+
+    /**
+     * Hands units to a running worker until none are left
+     */
+    private void serve(Process process, BlockingDeque<Integer> pending,
+            int units, AtomicInteger done, Pairings pairings, long[] scores)
+            throws IOException, InterruptedException {
+
+        DataOutputStream out = new DataOutputStream(
+                new BufferedOutputStream(process.getOutputStream()));
+        DataInputStream in = new DataInputStream(
+                new BufferedInputStream(process.getInputStream()));
+
+        ScheduledFuture<?> deadline = deadline(process, "starting");
+        try {
+            hello(in);
+        } finally {
+            deadline.cancel(false);
+        }
+        out.writeByte(SETUP);
+        out.writeBoolean(seed != null);
+        out.writeLong(seed == null ? 0 : seed);
+        out.writeInt(workerThreads);
+        out.writeLong(moveTimeout == null ? 0 : moveTimeout.toMillis());
+        out.writeLong(cpuBudget == null ? 0 : cpuBudget.toMillis());
+        out.flush();
+
+        while (done.get() < units) {
+            Integer unit = pending.pollFirst(100, TimeUnit.MILLISECONDS);
+            if (unit == null) {
+                // Units in flight elsewhere may still come back
+                continue;
+            }
+
+            deadline = deadline(process, "unit " + unit);
+            try {
+                int first = unit * unitSize;
+                int end = (int) Math.min(melees, (long) first + unitSize);
+                out.writeByte(UNIT);
+                out.writeInt(unit);
+                out.writeInt(first);
+                out.writeInt(end);
+                out.flush();
+
+                if (in.readByte() != RESULT || in.readInt() != unit
+                        || in.readInt() != end - first) {
+                    throw new IOException("Unexpected answer to unit " + unit);
+                }
+
+                int[] points = new int[2 * (end - first)];
+                for (int i = 0; i < points.length; i++) {
+                    points[i] = in.readInt();
+                }
+
+                synchronized (scores) {
+                    for (int melee = first; melee < end; melee++) {
+                        AbstractPlayer[] pair = pairings.get(melee);
+                        scores[indexes.get(pair[0])] += points[2 * (melee - first)];
+                        scores[indexes.get(pair[1])] += points[2 * (melee - first) + 1];
+                    }
+                }
+                done.incrementAndGet();
+            } catch (IOException ex) {
+                pending.addFirst(unit);
+                throw ex;
+            } finally {
+                deadline.cancel(false);
+            }
+        }
+
+        out.writeByte(STOP);
+        out.flush();
+        out.close();
+    }
+
+    /**
+     * Kills the worker unless cancelled within the unit timeout; reading
+     * its output then fails, so the unit goes back to the queue
+     */
+    private ScheduledFuture<?> deadline(Process process, String task) {
+        return deadlines.schedule(() -> {
+            logger.warning("Worker process " + process.pid()
+                    + " missed the deadline of " + task);
+            process.destroyForcibly();
+        }, unitTimeout.toNanos(), TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Checks that the worker loaded the same players
+     */
+    private void hello(DataInputStream in)
+            throws IOException {
+        if (in.readByte() != HELLO) {
+            throw new IOException("Worker did not say hello");
+        }
+
+        int count = in.readInt();
+        if (count != players.size()) {
+            throw new IOException("Worker loaded " + count
+                    + " players instead of " + players.size());
+        }
+        for (AbstractPlayer player : players) {
+            String name = in.readUTF();
+            if (!name.equals(Players.name(player))) {
+                throw new IOException("Worker loaded " + name
+                        + " instead of " + Players.name(player));
+            }
+        }
+    }
+}
@@ -0,0 +1,120 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2025 Luis Guisso &lt;luis.guisso at ifnmg.edu.br&gt;.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package io.github.guisso.meleemanager;
+
+/**
+ * Ends a melee before its last turn once a sequential test shows who wins.
+ * <p>
+ * Only turns with a winner count. After each one, Wald's sequential
+ * probability ratio test weighs the hypothesis that a player wins half of
+ * them against the hypothesis that it wins {@code 0.5 + margin}, for each
+ * player, and the melee stops when one of them is accepted with the given
+ * confidence. The test is meant to be repeated every turn.
+ * <p>
+ * The score of a stopped melee is extrapolated: each player's points are
+ * scaled by {@code TURNS / turns played} and rounded, so stopped and full
+ * melees add up on the same scale.
+ *
+ * @author Luis Guisso &lt;luis.guisso at ifnmg.edu.br&gt;
+ * @version 0.1
+ * @since 0.1, Oct 18, 2026
+ */
+public final class EarlyStop {
+
+    private final double confidence;
+    private final double margin;
+    private final int minTurns;
+
+    // Log likelihood ratio of a won and a lost turn, and the threshold
+    private final double win;
+    private final double loss;
+    private final double threshold;
+
+    /**
+     * Stops with a margin of 0.1 after at least 30 turns
+     *
+     * @param confidence Probability of naming the right winner, below 1
+     */
+    public EarlyStop(double confidence) {
+        this(confidence, 0.1, 30);
+    }
+
+    /**
+     * @param confidence Probability of naming the right winner, below 1
+     * @param margin Win rate over one half that counts as a decided melee
+     * @param minTurns Turns always played
+     */
+    public EarlyStop(double confidence, double margin, int minTurns) {
+        if (!(confidence > 0.5 && confidence < 1)) {
+            throw new IllegalArgumentException(
+                    "Confidence must be between 0.5 and 1: " + confidence);
+        }
+        if (!(margin > 0 && margin < 0.5)) {
+            throw new IllegalArgumentException(
+                    "Margin must be between 0 and 0.5: " + margin);
+        }
+
+        this.confidence = confidence;
+        this.margin = margin;
+        this.minTurns = minTurns;
+        this.win = Math.log((0.5 + margin) / 0.5);
+        this.loss = Math.log((0.5 - margin) / 0.5);
+        this.threshold = Math.log(confidence / (1 - confidence));
+    }
+
+    /**
+     * @param turns Turns played
+     * @param playerAWins Turns won by player A
+     * @param playerBWins Turns won by player B
+     * @return Whether the melee may stop
+     */
+    public boolean isDecided(int turns, int playerAWins, int playerBWins) {
+        if (turns < minTurns) {
+            return false;
+        }
+        return playerAWins * win + playerBWins * loss >= threshold
+                || playerBWins * win + playerAWins * loss >= threshold;
+    }
+
+    /**
+     * @param score Points of a player in a stopped melee
+     * @param turns Turns played
+     * @return Points expected over all the turns
+     */
+    public static int extrapolate(int score, int turns) {
+        return (int) Math.round((double) score * JanKenPonManager.TURNS / turns);
+    }
+
+    public double getConfidence() {
+        return confidence;
+    }
+
+    public double getMargin() {
+        return margin;
+    }
+
+    public int getMinTurns() {
+        return minTurns;
+    }
+}
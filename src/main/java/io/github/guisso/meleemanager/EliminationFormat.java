@@ -0,0 +1,143 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2025 Luis Guisso &lt;luis.guisso at ifnmg.edu.br&gt;.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package io.github.guisso.meleemanager;
+
+import io.github.guisso.jankenpon.AbstractPlayer;
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+
+/**
+ * Knockout tournament, single or double elimination.
+ * <p>
+ * The winner of a melee is the player with more points, player A on a tie:
+ * the better seed, or the unbeaten finalist. Players with the same number of
+ * losses are paired every round, best seed against worst seed, the best one
+ * getting a bye if they are odd. In double elimination the last unbeaten
+ * player meets the last one with a single loss, and a rematch follows if
+ * the unbeaten one loses.
+ * <p>
+ * Players are ranked by how long they stayed in, then by their points.
+ * Takes {@code n - 1} melees, or at most {@code 2n - 1} with double
+ * elimination.
+ *
+ * @author Luis Guisso &lt;luis.guisso at ifnmg.edu.br&gt;
+ * @version 0.1
+ * @since 0.1, Oct 18, 2026
+ */
+public final class EliminationFormat
+        implements TournamentFormat {
+
+    private final int lives;
+
+    /**
+     * @param doubleElimination Whether players are out after two losses
+     * instead of one
+     */
+    public EliminationFormat(boolean doubleElimination) {
+        this.lives = doubleElimination ? 2 : 1;
+    }
+
+    @Override
+    public List<Standing> play(List<AbstractPlayer> players, MeleeRunner runner)
+            throws InterruptedException, ExecutionException {
+
+        Map<AbstractPlayer, Long> scores = new IdentityHashMap<>();
+        Map<AbstractPlayer, Integer> losses = new IdentityHashMap<>();
+
+        // Players still in, in seed order
+        List<AbstractPlayer> alive = new ArrayList<>(players);
+
+        // Players out, by the round they left
+        List<List<AbstractPlayer>> out = new ArrayList<>();
+
+        while (alive.size() > 1) {
+            List<List<AbstractPlayer>> groups = new ArrayList<>(lives);
+            for (int group = 0; group < lives; group++) {
+                groups.add(new ArrayList<>());
+            }
+            for (AbstractPlayer player : alive) {
+                groups.get(losses.getOrDefault(player, 0)).add(player);
+            }
+
+            List<AbstractPlayer[]> batch = new ArrayList<>();
+            if (lives == 2 && groups.get(0).size() == 1
+                    && groups.get(1).size() == 1) {
+                // Final between the unbeaten player and the other finalist
+                batch.add(new AbstractPlayer[]{
+                    groups.get(0).get(0), groups.get(1).get(0)});
+            } else {
+                for (List<AbstractPlayer> group : groups) {
+                    int first = group.size() % 2;
+                    for (int i = first, j = group.size() - 1; i < j; i++, j--) {
+                        batch.add(new AbstractPlayer[]{
+                            group.get(i), group.get(j)});
+                    }
+                }
+            }
+
+            List<MeleeSession> sessions = runner.play(batch);
+            MeleeRunner.addScores(scores, sessions);
+
+            List<AbstractPlayer> eliminated = new ArrayList<>();
+            for (MeleeSession session : sessions) {
+                AbstractPlayer loser = winner(session) == session.getPlayerA()
+                        ? session.getPlayerB()
+                        : session.getPlayerA();
+                if (losses.merge(loser, 1, Integer::sum) == lives) {
+                    eliminated.add(loser);
+                }
+            }
+
+            alive.removeIf(player -> losses.getOrDefault(player, 0) == lives);
+            out.add(eliminated);
+        }
+
+        // Champion, then the last ones out
+        List<Standing> standings = new ArrayList<>(players.size());
+        standings.addAll(Standing.rank(alive, scores));
+        for (int round = out.size() - 1; round >= 0; round--) {
+            standings.addAll(Standing.rank(out.get(round), scores));
+        }
+
+        return standings;
+    }
+
+    @Override
+    public long maxMelees(int players) {
+        return players < 2 ? 0 : (long) lives * players - 1;
+    }
+
+    /**
+     * @param session A finished melee
+     * @return The player with more points, player A on a tie
+     */
+    static AbstractPlayer winner(MeleeSession session) {
+        return session.getPlayerBScore() > session.getPlayerAScore()
+                ? session.getPlayerB()
+                : session.getPlayerA();
+    }
+}
@@ -0,0 +1,154 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2025 Luis Guisso &lt;luis.guisso at ifnmg.edu.br&gt;.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package io.github.guisso.meleemanager;
+
+import io.github.guisso.jankenpon.AbstractPlayer;
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+
+/**
+ * Round-robin groups, then a playoff between the best of each group.
+ * <p>
+ * Seeds are spread over the groups in a snake, so every group gets a
+ * similar share of strong players. All groups play at the same time. The
+ * best players of each group go to the playoff, group winners first, and
+ * rank above the others; the rest are ranked by their group points.
+ *
+ * @author Luis Guisso &lt;luis.guisso at ifnmg.edu.br&gt;
+ * @version 0.1
+ * @since 0.1, Oct 18, 2026
+ */
+public final class GroupStageFormat
+        implements TournamentFormat {
+
+    private final int groupSize;
+    private final int advance;
+    private final TournamentFormat playoff;
+
+    /**
+     * @param groupSize Most players in a group
+     * @param advance Players of each group that go to the playoff
+     * @param playoff Format of the playoff
+     */
+    public GroupStageFormat(int groupSize, int advance, TournamentFormat playoff) {
+        if (groupSize < 2 || advance < 1 || advance > groupSize) {
+            throw new IllegalArgumentException(
+                    "Invalid group size and players advancing: "
+                    + groupSize + ", " + advance);
+        }
+
+        this.groupSize = groupSize;
+        this.advance = advance;
+        this.playoff = playoff;
+    }
+
+    @Override
+    public List<Standing> play(List<AbstractPlayer> players, MeleeRunner runner)
+            throws InterruptedException, ExecutionException {
+
+        List<List<AbstractPlayer>> groups = groups(players);
+
+        List<AbstractPlayer[]> batch = new ArrayList<>();
+        for (List<AbstractPlayer> group : groups) {
+            for (AbstractPlayer[] melee : TournamentEngine.roundRobin(group)) {
+                batch.add(melee);
+            }
+        }
+
+        Map<AbstractPlayer, Long> scores = new IdentityHashMap<>();
+        MeleeRunner.addScores(scores, runner.play(batch));
+
+        // Group winners first, then runners-up...
+        List<List<Standing>> places = new ArrayList<>();
+        for (List<AbstractPlayer> group : groups) {
+            List<Standing> ranking = Standing.rank(group, scores);
+            for (int place = 0; place < ranking.size(); place++) {
+                if (place == places.size()) {
+                    places.add(new ArrayList<>());
+                }
+                places.get(place).add(ranking.get(place));
+            }
+        }
+
+        List<AbstractPlayer> advancing = new ArrayList<>();
+        List<AbstractPlayer> others = new ArrayList<>();
+        for (int place = 0; place < places.size(); place++) {
+            places.get(place).sort(Standing.RANKING);
+            for (Standing standing : places.get(place)) {
+                (place < advance ? advancing : others).add(standing.player());
+            }
+        }
+
+        List<Standing> standings = new ArrayList<>(players.size());
+        for (Standing standing : playoff.play(advancing, runner)) {
+            standings.add(new Standing(standing.player(),
+                    scores.getOrDefault(standing.player(), 0L) + standing.score()));
+        }
+        standings.addAll(Standing.rank(others, scores));
+
+        return standings;
+    }
+
+    @Override
+    public long maxMelees(int players) {
+        // Groups differ in size by one player at most
+        int count = groups(players);
+        long size = players / count;
+        long larger = players % count;
+
+        long melees = larger * (size + 1) * size / 2
+                + (count - larger) * size * (size - 1) / 2;
+        long advancing = larger * Math.min(advance, size + 1)
+                + (count - larger) * Math.min(advance, size);
+
+        return melees + playoff.maxMelees((int) advancing);
+    }
+
+    private int groups(int players) {
+        return Math.max(1, (players + groupSize - 1) / groupSize);
+    }
+
+    /**
+     * Snake seeding: 1 2 3 4, 8 7 6 5, 9 10 11 12...
+     */
+    private List<List<AbstractPlayer>> groups(List<AbstractPlayer> players) {
+        int count = groups(players.size());
+        List<List<AbstractPlayer>> groups = new ArrayList<>(count);
+        for (int group = 0; group < count; group++) {
+            groups.add(new ArrayList<>());
+        }
+
+        for (int seed = 0; seed < players.size(); seed++) {
+            int row = seed / count;
+            int column = seed % count;
+            groups.get(row % 2 == 0 ? column : count - 1 - column)
+                    .add(players.get(seed));
+        }
+
+        return groups;
+    }
+}
@@ -0,0 +1,364 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2025 Luis Guisso &lt;luis.guisso at ifnmg.edu.br&gt;.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package io.github.guisso.meleemanager;
+
+import io.github.guisso.jankenpon.AbstractPlayer;
+import io.github.guisso.jankenpon.Move;
+import java.io.IOException;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Who beat whom, and how each player moves, updated as melees finish.
+ * <p>
+ * Counters live in flat primitive arrays indexed by player order: wins and
+ * points per ordered pair, melees per unordered pair, and per player the
+ * count of each move and of each transition from one move to the next in
+ * the same melee. A thousand players take about 10 MB. Updates take a short
+ * lock per melee; reads do not lock and see the counters as they are, so
+ * the matrix can be queried while the tournament runs.
+ *
+ * @author Luis Guisso &lt;luis.guisso at ifnmg.edu.br&gt;
+ * @version 0.1
+ * @since 0.1, Oct 18, 2026
+ */
+public final class HeadToHead
+        implements TournamentEngine.Listener {
+
+    private static final Move[] MOVES = Move.values();
+
+    private final List<AbstractPlayer> players;
+    private final Map<AbstractPlayer, Integer> indexes;
+    private final int size;
+
+    // Guarded by this for writes, [a * size + b]
+    private final int[] wins;
+    private final int[] points;
+
+    // Guarded by this for writes, upper triangle without the diagonal
+    private final int[] melees;
+
+    // Guarded by this for writes, [player * 4 + move] and
+    // [player * 16 + previous * 4 + move]
+    private final int[] moves;
+    private final int[] transitions;
+
+    /**
+     * @param players All players, in the order of the exports
+     */
+    public HeadToHead(List<AbstractPlayer> players) {
+        this.players = List.copyOf(players);
+        this.size = players.size();
+        this.indexes = new IdentityHashMap<>();
+        for (int i = 0; i < size; i++) {
+            indexes.put(players.get(i), i);
+        }
+
+        this.wins = new int[size * size];
+        this.points = new int[size * size];
+        this.melees = new int[size * (size - 1) / 2];
+        this.moves = new int[size * MOVES.length];
+        this.transitions = new int[size * MOVES.length * MOVES.length];
+    }
+
+    /**
+     * Adds a finished melee, early stopped ones with their extrapolated
+     * points
+     */
+    @Override
+    public void meleeFinished(int melee, MeleeSession session) {
+        int playerA = indexOf(session.getPlayerA());
+        int playerB = indexOf(session.getPlayerB());
+        int playerAScore = session.getPlayerAScore();
+        int playerBScore = session.getPlayerBScore();
+
+        synchronized (this) {
+            if (playerAScore > playerBScore) {
+                wins[playerA * size + playerB]++;
+            } else if (playerBScore > playerAScore) {
+                wins[playerB * size + playerA]++;
+            }
+            points[playerA * size + playerB] += playerAScore;
+            points[playerB * size + playerA] += playerBScore;
+            melees[pair(playerA, playerB)]++;
+
+            count(playerA, session.getPlayerAMoves(), session.getCurrentTurn());
+            count(playerB, session.getPlayerBMoves(), session.getCurrentTurn());
+        }
+    }
+
+    private void count(int player, byte[] playerMoves, int turns) {
+        int previous = -1;
+        for (int turn = 0; turn < turns; turn++) {
+            int move = playerMoves[turn];
+            moves[player * MOVES.length + move]++;
+            if (previous >= 0) {
+                transitions[(player * MOVES.length + previous) * MOVES.length + move]++;
+            }
+            previous = move;
+        }
+    }
+
+    /**
+     * @param player A player
+     * @return Its index in the matrix
+     * @throws IllegalArgumentException If the player is not in the matrix
+     */
+    public int indexOf(AbstractPlayer player) {
+        Integer index = indexes.get(player);
+        if (index == null) {
+            throw new IllegalArgumentException(
+                    "Unknown player: " + player.getDeveloperName());
+        }
+        return index;
+    }
+
+    public List<AbstractPlayer> getPlayers() {
+        return players;
+    }
+
+    /**
+     * @param a Player index
+     * @param b Opponent index
+     * @return Melees played between both
+     */
+    public int getMelees(int a, int b) {
+        return a == b ? 0 : melees[pair(a, b)];
+    }
+
+    /**
+     * @param a Player index
+     * @param b Opponent index
+     * @return Melees that {@code a} won against {@code b}
+     */
+    public int getWins(int a, int b) {
+        return wins[a * size + b];
+    }
+
+    /**
+     * @param a Player index
+     * @param b Opponent index
+     * @return Melees that {@code a} lost against {@code b}
+     */
+    public int getLosses(int a, int b) {
+        return wins[b * size + a];
+    }
+
+    /**
+     * @param a Player index
+     * @param b Opponent index
+     * @return Melees between both without a winner
+     */
+    public int getTies(int a, int b) {
+        return getMelees(a, b) - getWins(a, b) - getLosses(a, b);
+    }
+
+    /**
+     * @param a Player index
+     * @param b Opponent index
+     * @return Points that {@code a} earned against {@code b}
+     */
+    public int getPoints(int a, int b) {
+        return points[a * size + b];
+    }
+
+    /**
+     * @param player Player index
+     * @param move A move
+     * @return Turns the player made the move
+     */
+    public int getMoveCount(int player, Move move) {
+        return moves[player * MOVES.length + move.ordinal()];
+    }
+
+    /**
+     * @param player Player index
+     * @param previous Move of a turn
+     * @param move Move of the next turn of the same melee
+     * @return Times the player followed {@code previous} with {@code move}
+     */
+    public int getTransitionCount(int player, Move previous, Move move) {
+        return transitions[(player * MOVES.length + previous.ordinal())
+                * MOVES.length + move.ordinal()];
+    }
+
+    /**
+     * Writes one line per ordered pair that played:
+     * {@code player,opponent,melees,wins,ties,losses,points}
+     *
+     * @param out Destination
+     * @throws IOException If writing fails
+     */
+    public void writeCsv(Appendable out)
+            throws IOException {
+        out.append("player,opponent,melees,wins,ties,losses,points\n");
+        for (int a = 0; a < size; a++) {
+            for (int b = 0; b < size; b++) {
+                if (getMelees(a, b) == 0) {
+                    continue;
+                }
+                out.append(csv(name(a))).append(',')
+                        .append(csv(name(b))).append(',')
+                        .append(Integer.toString(getMelees(a, b))).append(',')
+                        .append(Integer.toString(getWins(a, b))).append(',')
+                        .append(Integer.toString(getTies(a, b))).append(',')
+                        .append(Integer.toString(getLosses(a, b))).append(',')
+                        .append(Integer.toString(getPoints(a, b))).append('\n');
+            }
+        }
+    }
+
+    /**
+     * Writes one line per player with the count of each move, then of each
+     * transition, named like {@code ROCK_PAPER}
+     *
+     * @param out Destination
+     * @throws IOException If writing fails
+     */
+    public void writeMovesCsv(Appendable out)
+            throws IOException {
+        out.append("player");
+        for (Move move : MOVES) {
+            out.append(',').append(move.name());
+        }
+        for (Move previous : MOVES) {
+            for (Move move : MOVES) {
+                out.append(',').append(previous.name())
+                        .append('_').append(move.name());
+            }
+        }
+        out.append('\n');
+
+        for (int player = 0; player < size; player++) {
+            out.append(csv(name(player)));
+            for (Move move : MOVES) {
+                out.append(',').append(Integer.toString(getMoveCount(player, move)));
+            }
+            for (Move previous : MOVES) {
+                for (Move move : MOVES) {
+                    out.append(',').append(Integer.toString(
+                            getTransitionCount(player, previous, move)));
+                }
+            }
+            out.append('\n');
+        }
+    }
+
+    /**
+     * Writes the players, their move counts and transitions, and every
+     * ordered pair that played, as a JSON object
+     *
+     * @param out Destination
+     * @throws IOException If writing fails
+     */
+    public void writeJson(Appendable out)
+            throws IOException {
+        out.append("{\"players\":[");
+        for (int player = 0; player < size; player++) {
+            out.append(player == 0 ? "\n" : ",\n")
+                    .append("{\"name\":").append(json(name(player)))
+                    .append(",\"moves\":{");
+            for (Move move : MOVES) {
+                out.append(move.ordinal() == 0 ? "" : ",")
+                        .append(json(move.name())).append(':')
+                        .append(Integer.toString(getMoveCount(player, move)));
+            }
+            out.append("},\"transitions\":{");
+            for (Move previous : MOVES) {
+                for (Move move : MOVES) {
+                    out.append(previous.ordinal() + move.ordinal() == 0 ? "" : ",")
+                            .append(json(previous.name() + "_" + move.name()))
+                            .append(':').append(Integer.toString(
+                            getTransitionCount(player, previous, move)));
+                }
+            }
+            out.append("}}");
+        }
+
+        out.append("],\n\"pairs\":[");
+        boolean first = true;
+        for (int a = 0; a < size; a++) {
+            for (int b = 0; b < size; b++) {
+                if (getMelees(a, b) == 0) {
+                    continue;
+                }
+                out.append(first ? "\n" : ",\n")
+                        .append("{\"player\":").append(Integer.toString(a))
+                        .append(",\"opponent\":").append(Integer.toString(b))
+                        .append(",\"melees\":").append(Integer.toString(getMelees(a, b)))
+                        .append(",\"wins\":").append(Integer.toString(getWins(a, b)))
+                        .append(",\"ties\":").append(Integer.toString(getTies(a, b)))
+                        .append(",\"losses\":").append(Integer.toString(getLosses(a, b)))
+                        .append(",\"points\":").append(Integer.toString(getPoints(a, b)))
+                        .append('}');
+                first = false;
+            }
+        }
+        out.append("]}\n");
+    }
+
+    private String name(int player) {
+        return players.get(player).getDeveloperName();
+    }
+
+    /**
+     * @return Index of an unordered pair in the upper triangle
+     */
+    private int pair(int a, int b) {
+        int low = Math.min(a, b);
+        int high = Math.max(a, b);
+        return low * (2 * size - low - 1) / 2 + high - low - 1;
+    }
+
+    private static String csv(String value) {
+        if (value.indexOf(',') < 0 && value.indexOf('"') < 0
+                && value.indexOf('\n') < 0) {
+            return value;
+        }
+        return '"' + value.replace("\"", "\"\"") + '"';
+    }
+
+    private static String json(String value) {
+        StringBuilder escaped = new StringBuilder(value.length() + 2).append('"');
+        for (char c : value.toCharArray()) {
+            switch (c) {
+                case '"' ->
+                    escaped.append("\\\"");
+                case '\\' ->
+                    escaped.append("\\\\");
+                case '\n' ->
+                    escaped.append("\\n");
+                default -> {
+                    if (c < 0x20) {
+                        escaped.append(String.format("\\u%04x", (int) c));
+                    } else {
+                        escaped.append(c);
+                    }
+                }
+            }
+        }
+        return escaped.append('"').toString();
+    }
+}
@@ -26,19 +26,13 @@ package io.github.guisso.meleemanager;
 import io.github.guisso.jankenpon.Result;
 import java.io.File;
 import java.io.IOException;
-import java.net.MalformedURLException;
-import java.lang.reflect.InvocationTargetException;
-import java.net.URL;
-import java.net.URLClassLoader;
 import java.security.NoSuchAlgorithmException;
 import java.security.SecureRandom;
-import java.util.ArrayList;
-import java.util.Enumeration;
 import java.util.List;
-import java.util.jar.JarEntry;
-import java.util.jar.JarFile;
+import java.util.SplittableRandom;
 import java.util.logging.Level;
 import java.util.logging.Logger;
+import java.util.random.RandomGenerator;
 import io.github.guisso.jankenpon.AbstractPlayer;
 import io.github.guisso.jankenpon.Move;
 
@@ -53,25 +47,26 @@ public final class JanKenPonManager {
 
     // Turns
     public static final int TURNS = 200;
-    private static int currentTurn;
 
-    // Decisions
-    private static Move playerAPreviousMove;
-    private static Move playerBPreviousMove;
+    // Turn and decisions of the current melee
+    private static MeleeSession session;
+    private static int currentMelee = -1;
+    private static MatchLog matchLog = MatchLog.CONSOLE;
 
     // Players and their scores
     private static List<AbstractPlayer> players;
-    
-    static {
-        playerAPreviousMove = Move.NONE;
-        playerBPreviousMove = Move.NONE;
-    }
+    private static PlayerRegistry registry;
+    private static MoveWatchdog watchdog;
 
+    /**
+     * Loads the players of every jar in the players' directory
+     *
+     * @return The players, ordered by jar name
+     * @throws IOException If a jar can not be read
+     * @throws ReflectiveOperationException If a player can not be created
+     */
     public static List<AbstractPlayer> loadPlayers()
-            throws ClassNotFoundException, MalformedURLException, IOException,
-            NoSuchMethodException, InstantiationException,
-            IllegalAccessException, IllegalArgumentException,
-            InvocationTargetException {
+            throws IOException, ReflectiveOperationException {
 
         File playersDir = new File("players");
 
@@ -79,117 +74,177 @@ public final class JanKenPonManager {
             throw new RuntimeException("Players' directory not found");
         }
 
-        players = new ArrayList<>();
-
 //        Pattern firstNamePattern = Pattern.compile("^.\\S+");
 //        Pattern lastNamePattern = Pattern.compile("\\S+.$");
 //
-        for (File file : playersDir.listFiles()) {
-            if (file.getName().endsWith(".jar")) {
-
-                URL jarUrl = file.toURI().toURL();
-
-                try (URLClassLoader classLoader
-                        = new URLClassLoader(new URL[]{jarUrl}); //
-                         JarFile jarFile = new JarFile(file)) {
-
-                    Enumeration<JarEntry> entries = jarFile.entries();
-
-                    while (entries.hasMoreElements()) {
-                        JarEntry entry = entries.nextElement();
-                        String name = entry.getName();
-
-                        if (name.endsWith(".class")) {
-                            String className = name.replace('/', '.').replace(".class", "");
-
-                            Class<?> clazz = classLoader.loadClass(className);
-
-                            if (AbstractPlayer.class.isAssignableFrom(clazz)) {
-                                AbstractPlayer player = (AbstractPlayer) clazz
-                                        .getDeclaredConstructor().newInstance();
-
-//                                // First and last names only
-//                                String firstName = firstNamePattern
-//                                        .matcher(player.getDeveloperName()).group();
-//                                String lastName = lastNamePattern
-//                                        .matcher(player.getDeveloperName()).group();
-//                                
-//                                player.setName(firstName + " " + lastName);
-//                                
-                                players.add(player);
-                            }
-                        }
-                    }
-                }
-            }
+//        // First and last names only
+//        String firstName = firstNamePattern
+//                .matcher(player.getDeveloperName()).group();
+//        String lastName = lastNamePattern
+//                .matcher(player.getDeveloperName()).group();
+//
+//        player.setName(firstName + " " + lastName);
+//
+        // Class loaders stay open while the players are in use
+        if (registry == null) {
+            registry = new PlayerRegistry(playersDir.toPath());
         }
+        players = registry.load();
 
         return players;
     }
 
     /**
-     * Promotes the melee
+     * @return Time breakdown of the last {@link #loadPlayers()}, or null
+     */
+    public static PlayerLoader.LoadReport getLoadReport() {
+        return registry == null ? null : registry.getReport();
+    }
+
+    /**
+     * @return Registry behind {@link #loadPlayers()}, or null before it
+     */
+    public static PlayerRegistry getRegistry() {
+        return registry;
+    }
+
+    /**
+     * Promotes the melee.
+     * <p>
+     * Compatibility wrapper over a shared {@link MeleeSession}, so only one
+     * melee at a time may use it. Players' total scores are still updated by
+     * {@link Move#versus(Move, AbstractPlayer, AbstractPlayer)}.
      *
      * @param playerA Player A
      * @param playerB Player B
      * @return The result of the current melee
      */
-    public static Result melee(AbstractPlayer playerA, AbstractPlayer playerB) {
-        Move playerAMove = playerA.makeMyMove(playerBPreviousMove);
-        Move playerBMove = playerB.makeMyMove(playerAPreviousMove);
+    public static synchronized Result melee(AbstractPlayer playerA, AbstractPlayer playerB) {
+        if (session == null || session.isFinished()) {
+            session = new MeleeSession(playerA, playerB, watchdog);
+            currentMelee++;
+            Move.resetConsecutiveWins();
+        }
+
+        int currentTurn = session.getCurrentTurn();
+        Move playerAMove = session.playerAMove();
+        Move playerBMove = session.playerBMove();
 
         // Tie results on 0 points to each
         Result result = playerAMove.versus(playerBMove, playerA, playerB);
+        session.judge(playerAMove, playerBMove);
 
         // Log
-        System.out.printf("%d,%s,%s,%d\n",
+        matchLog.record(currentMelee, currentTurn,
                 playerA.getTotaScore(),
                 playerAMove,
                 playerBMove,
                 playerB.getTotaScore());
 
-        playerAPreviousMove = playerAMove;
-        playerBPreviousMove = playerBMove;
+        return result == null ? Result.NONE : result;
+    }
 
-        if (++currentTurn >= TURNS) {
-            currentTurn = 0;
-            playerAPreviousMove = Move.NONE;
-            playerBPreviousMove = Move.NONE;
-        }
+    /**
+     * @return Session of the current melee of
+     * {@link #melee(AbstractPlayer, AbstractPlayer)}, null before the first
+     */
+    public static synchronized MeleeSession getSession() {
+        return session;
+    }
 
-        return result == null ? Result.NONE : result;
+    /**
+     * Bounds the moves of the following melees
+     *
+     * @param moveWatchdog Watchdog, or null to run moves on the caller's
+     * thread
+     */
+    public static synchronized void setMoveWatchdog(MoveWatchdog moveWatchdog) {
+        watchdog = moveWatchdog;
+    }
+
+    /**
+     * Sets where {@link #melee(AbstractPlayer, AbstractPlayer)} records each
+     * turn, the console by default. Melees are numbered from 0 in the order
+     * they start.
+     *
+     * @param log Destination of the records, {@link MatchLog#NONE} for none
+     */
+    public static synchronized void setMatchLog(MatchLog log) {
+        matchLog = log;
     }
 
     /**
-     * Randmomize players positions
+     * Randmomize players positions with a new seed, logged so the schedule
+     * can be reproduced with {@link #randomize(AbstractPlayer[][], long)}
      *
      * @param melees All pair players
+     * @return The seed used
      */
-    public static void randomize(AbstractPlayer[][] melees) {
-
-        for (int currentPosition = 0;
-                currentPosition < melees.length;
-                currentPosition++) {
-
-            try {
-                // Randomize melee position
-                int randomPostion = SecureRandom.getInstanceStrong()
-                        .nextInt(0, melees.length);
-                AbstractPlayer[] temporaryPair = melees[currentPosition];
-                melees[currentPosition] = melees[randomPostion];
-                melees[randomPostion] = temporaryPair;
-
-                // Randomize first player
-                if (SecureRandom.getInstanceStrong().nextBoolean()) {
-                    AbstractPlayer temporaryPlayer = melees[randomPostion][0];
-                    melees[randomPostion][0] = melees[randomPostion][1];
-                    melees[randomPostion][1] = temporaryPlayer;
-                }
-            } catch (NoSuchAlgorithmException ex) {
-                Logger.getLogger(JanKenPonManager.class.getName()).log(Level.SEVERE, null, ex);
-            }
+    public static long randomize(AbstractPlayer[][] melees) {
+        long seed = newSeed();
+        randomize(melees, seed);
+        return seed;
+    }
+
+    /**
+     * Picks the seed of a new schedule and logs it
+     *
+     * @return A seed for {@link #randomize(AbstractPlayer[][], long)} or
+     * {@link Pairings#Pairings(List, long)}
+     */
+    public static long newSeed() {
+        long seed = new SecureRandom().nextLong();
+        Logger.getLogger(JanKenPonManager.class.getName())
+                .log(Level.INFO, "Schedule seed: {0}", Long.toString(seed));
+        return seed;
+    }
+
+    /**
+     * Randmomize players positions, always in the same way for the same seed
+     * and number of melees
+     *
+     * @param melees All pair players
+     * @param seed Seed of the shuffle
+     */
+    public static void randomize(AbstractPlayer[][] melees, long seed) {
+        shuffle(melees, new SplittableRandom(seed));
+    }
+
+    /**
+     * Randmomize players positions from the strong source of the platform,
+     * which may block and can not be reproduced
+     *
+     * @param melees All pair players
+     * @throws NoSuchAlgorithmException If there is no strong source
+     */
+    public static void randomizeStrong(AbstractPlayer[][] melees)
+            throws NoSuchAlgorithmException {
+        shuffle(melees, SecureRandom.getInstanceStrong());
+    }
+
+    /**
+     * Fisher-Yates shuffle of the melees, then of the players in each one
+     */
+    private static void shuffle(AbstractPlayer[][] melees, RandomGenerator random) {
+        for (int currentPosition = melees.length - 1;
+                currentPosition > 0;
+                currentPosition--) {
+
+            // Randomize melee position among the ones not placed yet
+            int randomPostion = random.nextInt(currentPosition + 1);
+            AbstractPlayer[] temporaryPair = melees[currentPosition];
+            melees[currentPosition] = melees[randomPostion];
+            melees[randomPostion] = temporaryPair;
         }
 
+        // Randomize first player
+        for (AbstractPlayer[] pair : melees) {
+            if (random.nextBoolean()) {
+                AbstractPlayer temporaryPlayer = pair[0];
+                pair[0] = pair[1];
+                pair[1] = temporaryPlayer;
+            }
+        }
     }
 
     /**
@@ -0,0 +1,176 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2025 Luis Guisso &lt;luis.guisso at ifnmg.edu.br&gt;.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package io.github.guisso.meleemanager;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Persistent index of the player classes found in each jar.
+ * <p>
+ * Entries are keyed by jar name, size and modification time, so unchanged
+ * jars skip scanning on later startups. Stored as one tab separated line per
+ * jar: name, size, mtime, SHA-256 and comma separated class names.
+ *
+ * @author Luis Guisso &lt;luis.guisso at ifnmg.edu.br&gt;
+ * @version 0.1
+ * @since 0.1, Oct 18, 2026
+ */
+public final class JarIndex {
+
+    public static final String FILE_NAME = ".players.idx";
+
+    /**
+     * Indexed content of a jar
+     *
+     * @param size Jar size in bytes
+     * @param lastModified Jar modification time in milliseconds
+     * @param hash SHA-256 of the jar content
+     * @param classNames Player classes found in the jar
+     */
+    public record Entry(long size, long lastModified, String hash,
+            List<String> classNames) {
+
+    }
+
+    private final Path file;
+    private final Map<String, Entry> entries;
+
+    private JarIndex(Path file) {
+        this.file = file;
+        this.entries = new ConcurrentHashMap<>();
+    }
+
+    /**
+     * Reads the index of a players' directory, empty if missing or corrupted
+     *
+     * @param directory Players' directory
+     * @return The index
+     */
+    public static JarIndex load(Path directory) {
+        JarIndex index = new JarIndex(directory.resolve(FILE_NAME));
+
+        try (BufferedReader reader = Files.newBufferedReader(
+                index.file, StandardCharsets.UTF_8)) {
+
+            String line;
+            while ((line = reader.readLine()) != null) {
+                String[] fields = line.split("\t", -1);
+                List<String> classNames = fields[4].isEmpty()
+                        ? List.of()
+                        : Arrays.asList(fields[4].split(","));
+
+                index.entries.put(fields[0], new Entry(
+                        Long.parseLong(fields[1]),
+                        Long.parseLong(fields[2]),
+                        fields[3],
+                        List.copyOf(classNames)));
+            }
+        } catch (NoSuchFileException ex) {
+            // First startup
+        } catch (IOException | RuntimeException ex) {
+            Logger.getLogger(JarIndex.class.getName())
+                    .log(Level.WARNING, "Ignoring unreadable jar index", ex);
+            index.entries.clear();
+        }
+
+        return index;
+    }
+
+    /**
+     * @param jarName Jar file name
+     * @param size Current jar size
+     * @param lastModified Current jar modification time
+     * @return The entry, or null if absent or stale
+     */
+    public Entry lookup(String jarName, long size, long lastModified) {
+        Entry entry = entries.get(jarName);
+        return entry != null
+                && entry.size() == size
+                && entry.lastModified() == lastModified
+                ? entry
+                : null;
+    }
+
+    public void put(String jarName, Entry entry) {
+        entries.put(jarName, entry);
+    }
+
+    /**
+     * Drops entries of jars no longer present
+     *
+     * @param jarNames Jars currently in the directory
+     */
+    public void retain(List<String> jarNames) {
+        entries.keySet().retainAll(jarNames);
+    }
+
+    /**
+     * Writes the index through a temporary file and an atomic rename
+     *
+     * @throws IOException If the index can not be written
+     */
+    public void save()
+            throws IOException {
+        // Unique, as several processes may load the same directory
+        Path temporary = Files.createTempFile(
+                file.getParent(), FILE_NAME, ".tmp");
+
+        try {
+            try (BufferedWriter writer = Files.newBufferedWriter(
+                    temporary, StandardCharsets.UTF_8)) {
+
+                for (Map.Entry<String, Entry> e : new TreeMap<>(entries).entrySet()) {
+                    Entry entry = e.getValue();
+                    writer.write(e.getKey() + "\t"
+                            + entry.size() + "\t"
+                            + entry.lastModified() + "\t"
+                            + entry.hash() + "\t"
+                            + String.join(",", entry.classNames()));
+                    writer.newLine();
+                }
+            }
+
+            Files.move(temporary, file,
+                    StandardCopyOption.REPLACE_EXISTING,
+                    StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException ex) {
+            Files.deleteIfExists(temporary);
+            throw ex;
+        }
+    }
+}
@@ -0,0 +1,80 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2025 Luis Guisso &lt;luis.guisso at ifnmg.edu.br&gt;.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package io.github.guisso.meleemanager;
+
+import io.github.guisso.jankenpon.Move;
+
+/**
+ * Sink of per-turn records, with the CSV columns melee, turn, scoreA, moveA,
+ * moveB and scoreB.
+ * <p>
+ * Implementations must accept records from several threads at once.
+ *
+ * @author Luis Guisso &lt;luis.guisso at ifnmg.edu.br&gt;
+ * @version 0.1
+ * @since 0.1, Oct 18, 2026
+ */
+public interface MatchLog
+        extends AutoCloseable {
+
+    /**
+     * Discards every record, for benchmarks
+     */
+    MatchLog NONE = (melee, turn, playerAScore, playerAMove, playerBMove, playerBScore) -> {
+    };
+
+    /**
+     * Prints each record to the standard output as it arrives
+     */
+    MatchLog CONSOLE = (melee, turn, playerAScore, playerAMove, playerBMove, playerBScore)
+            -> System.out.printf("%d,%d,%d,%s,%s,%d\n",
+                    melee, turn, playerAScore, playerAMove, playerBMove, playerBScore);
+
+    /**
+     * Records one turn
+     *
+     * @param melee Melee number
+     * @param turn Turn of the melee, starting at 0
+     * @param playerAScore Player A score after the turn
+     * @param playerAMove Player A move
+     * @param playerBMove Player B move
+     * @param playerBScore Player B score after the turn
+     */
+    void record(int melee, int turn, int playerAScore,
+            Move playerAMove, Move playerBMove, int playerBScore);
+
+    /**
+     * Writes pending records, if any
+     */
+    default void flush() {
+    }
+
+    /**
+     * Writes pending records and releases the sink
+     */
+    @Override
+    default void close() {
+        flush();
+    }
+}
@@ -0,0 +1,282 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2025 Luis Guisso &lt;luis.guisso at ifnmg.edu.br&gt;.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package io.github.guisso.meleemanager;
+
+import io.github.guisso.jankenpon.Move;
+import io.github.guisso.jankenpon.Result;
+import java.io.ByteArrayInputStream;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Reads a {@code .jkp} file through memory mapping, without parsing the
+ * whole file.
+ * <p>
+ * Any melee is reached by its schedule position in constant time, and its
+ * per-turn results and scores are rebuilt with the {@link OutcomeTable}.
+ * Files over 2 GB are mapped in several segments. Instances are safe for
+ * concurrent reads.
+ *
+ * @author Luis Guisso &lt;luis.guisso at ifnmg.edu.br&gt;
+ * @version 0.1
+ * @since 0.1, Oct 18, 2026
+ * @see MatchRecordWriter
+ */
+public final class MatchRecordReader
+        implements AutoCloseable {
+
+    private static final Move[] MOVES = Move.values();
+
+    private final FileChannel channel;
+    private final int turns;
+    private final int melees;
+    private final int recordBytes;
+    private final List<String> playerNames;
+    private final List<String> playerClasses;
+
+    // Segments of whole records
+    private final MappedByteBuffer[] segments;
+    private final int recordsPerSegment;
+
+    /**
+     * @param file A {@code .jkp} file
+     * @throws IOException If the file can not be read or is not valid
+     */
+    public MatchRecordReader(Path file)
+            throws IOException {
+        channel = FileChannel.open(file, StandardOpenOption.READ);
+
+        ByteBuffer header = read(0, MatchRecordWriter.HEADER_BYTES);
+
+        if (header.getInt() != MatchRecordWriter.MAGIC) {
+            throw new IOException("Not a match record file: " + file);
+        }
+        int version = header.getShort() & 0xFFFF;
+        if (version != MatchRecordWriter.VERSION) {
+            throw new IOException("Unsupported match record version " + version);
+        }
+
+        turns = header.getShort() & 0xFFFF;
+        int players = header.getInt();
+        melees = header.getInt();
+        long recordsOffset = header.getLong();
+        recordBytes = MatchRecordWriter.recordBytes(turns);
+
+        ByteBuffer table = read(MatchRecordWriter.HEADER_BYTES,
+                (int) (recordsOffset - MatchRecordWriter.HEADER_BYTES));
+
+        playerNames = new ArrayList<>(players);
+        playerClasses = new ArrayList<>(players);
+        try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(
+                table.array(), 0, table.limit()))) {
+            for (int i = 0; i < players; i++) {
+                playerNames.add(in.readUTF());
+                playerClasses.add(in.readUTF());
+            }
+        }
+
+        recordsPerSegment = Integer.MAX_VALUE / recordBytes;
+        int count = melees == 0 ? 0 : (melees - 1) / recordsPerSegment + 1;
+        segments = new MappedByteBuffer[count];
+
+        for (int i = 0; i < count; i++) {
+            int records = Math.min(recordsPerSegment, melees - i * recordsPerSegment);
+            segments[i] = channel.map(FileChannel.MapMode.READ_ONLY,
+                    recordsOffset + (long) i * recordsPerSegment * recordBytes,
+                    (long) records * recordBytes);
+        }
+    }
+
+    public int getTurns() {
+        return turns;
+    }
+
+    public int getMelees() {
+        return melees;
+    }
+
+    public List<String> getPlayerNames() {
+        return List.copyOf(playerNames);
+    }
+
+    public List<String> getPlayerClasses() {
+        return List.copyOf(playerClasses);
+    }
+
+    /**
+     * @param melee Schedule position
+     * @return Whether the melee was written
+     */
+    public boolean isWritten(int melee) {
+        return getTurnsPlayed(melee) > 0;
+    }
+
+    /**
+     * @param melee Schedule position
+     * @return Whether the melee was stopped early by an {@link EarlyStop}
+     */
+    public boolean isStopped(int melee) {
+        int played = getTurnsPlayed(melee);
+        return played > 0 && played < turns;
+    }
+
+    /**
+     * @param melee Schedule position
+     * @return Index of player A in the player table
+     */
+    public int getPlayerA(int melee) {
+        return segment(melee).getInt(offset(melee));
+    }
+
+    /**
+     * @param melee Schedule position
+     * @return Index of player B in the player table
+     */
+    public int getPlayerB(int melee) {
+        return segment(melee).getInt(offset(melee) + 4);
+    }
+
+    /**
+     * @param melee Schedule position
+     * @return Turns played, 0 if the melee was not written
+     */
+    public int getTurnsPlayed(int melee) {
+        return segment(melee).getShort(offset(melee) + 8) & 0xFFFF;
+    }
+
+    /**
+     * @param melee Schedule position
+     * @param turn Turn, starting at 0
+     * @return Player A move
+     */
+    public Move getPlayerAMove(int melee, int turn) {
+        return MOVES[nibble(melee, turn) >> 2];
+    }
+
+    /**
+     * @param melee Schedule position
+     * @param turn Turn, starting at 0
+     * @return Player B move
+     */
+    public Move getPlayerBMove(int melee, int turn) {
+        return MOVES[nibble(melee, turn) & 3];
+    }
+
+    /**
+     * @param melee Schedule position
+     * @param turn Turn, starting at 0
+     * @return Result of the turn
+     */
+    public Result getResult(int melee, int turn) {
+        int moves = nibble(melee, turn);
+        return OutcomeTable.getInstance().result(MOVES[moves >> 2], MOVES[moves & 3]);
+    }
+
+    /**
+     * Rebuilds the result of every turn played
+     *
+     * @param melee Schedule position
+     * @return The results
+     */
+    public Result[] getResults(int melee) {
+        Result[] results = new Result[getTurnsPlayed(melee)];
+        for (int turn = 0; turn < results.length; turn++) {
+            results[turn] = getResult(melee, turn);
+        }
+        return results;
+    }
+
+    /**
+     * Rebuilds the final score of both players, consecutive wins included.
+     * Scores of a melee stopped early are extrapolated to every turn, as
+     * {@link MeleeSession} did when it was played.
+     *
+     * @param melee Schedule position
+     * @return Player A and player B scores
+     */
+    public int[] getScores(int melee) {
+        OutcomeTable outcomes = OutcomeTable.getInstance();
+        int[] streak = new int[2];
+        int[] points = new int[2];
+        int[] scores = new int[2];
+
+        for (int turn = 0, played = getTurnsPlayed(melee); turn < played; turn++) {
+            int moves = nibble(melee, turn);
+            outcomes.score(MOVES[moves >> 2], MOVES[moves & 3], streak, points);
+            scores[0] += points[0];
+            scores[1] += points[1];
+        }
+
+        if (isStopped(melee)) {
+            int played = getTurnsPlayed(melee);
+            scores[0] = EarlyStop.extrapolate(scores[0], played);
+            scores[1] = EarlyStop.extrapolate(scores[1], played);
+        }
+        return scores;
+    }
+
+    @Override
+    public void close()
+            throws IOException {
+        channel.close();
+    }
+
+    private int nibble(int melee, int turn) {
+        if (turn < 0 || turn >= getTurnsPlayed(melee)) {
+            throw new IndexOutOfBoundsException("Turn " + turn + " not played");
+        }
+        int packed = segment(melee).get(offset(melee)
+                + MatchRecordWriter.RECORD_HEADER_BYTES + turn / 2);
+        return (turn & 1) == 0 ? (packed >> 4) & 0xF : packed & 0xF;
+    }
+
+    private ByteBuffer segment(int melee) {
+        if (melee < 0 || melee >= melees) {
+            throw new IndexOutOfBoundsException("Melee " + melee);
+        }
+        return segments[melee / recordsPerSegment];
+    }
+
+    private int offset(int melee) {
+        return (melee % recordsPerSegment) * recordBytes;
+    }
+
+    private ByteBuffer read(long position, int length)
+            throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(length);
+        while (buffer.hasRemaining()) {
+            if (channel.read(buffer, position + buffer.position()) < 0) {
+                throw new IOException("Truncated match record file");
+            }
+        }
+        return buffer.flip();
+    }
+}
@@ -0,0 +1,196 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2025 Luis Guisso &lt;luis.guisso at ifnmg.edu.br&gt;.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package io.github.guisso.meleemanager;
+
+import io.github.guisso.jankenpon.AbstractPlayer;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Writes a tournament in the compact binary {@code .jkp} format.
+ * <p>
+ * Layout, big endian:
+ * <pre>
+ * header   "JKP1", version (u2), turns (u2), players (s4), melees (s4),
+ *          records offset (s8)
+ * players  developer name and class name of each player (modified UTF-8)
+ * records  one fixed size record per melee, at its schedule position:
+ *          player A index (s4), player B index (s4), turns played (u2),
+ *          moves, one byte per two turns, each turn packed in a nibble as
+ *          (move A &lt;&lt; 2 | move B)
+ * </pre>
+ * A record with no turns played was not written, and one with fewer turns
+ * played than the header's was stopped early by an {@link EarlyStop}.
+ * Records are written with
+ * positional writes as melees finish, from any thread, so the file is
+ * usable while the tournament runs.
+ *
+ * @author Luis Guisso &lt;luis.guisso at ifnmg.edu.br&gt;
+ * @version 0.1
+ * @since 0.1, Oct 18, 2026
+ */
+public final class MatchRecordWriter
+        implements AutoCloseable {
+
+    static final int MAGIC = 0x4A4B5031; // "JKP1"
+    static final int VERSION = 1;
+    static final int HEADER_BYTES = 24;
+    static final int RECORD_HEADER_BYTES = 10;
+
+    private final FileChannel channel;
+    private final Map<AbstractPlayer, Integer> indexes;
+    private final int turns;
+    private final int recordBytes;
+    private final long recordsOffset;
+
+    /**
+     * @param file Destination, truncated if it exists
+     * @param players Player table
+     * @param melees Number of melees in the schedule
+     * @throws IOException If the file can not be written
+     */
+    public MatchRecordWriter(Path file, List<AbstractPlayer> players, int melees)
+            throws IOException {
+        this.turns = JanKenPonManager.TURNS;
+        this.recordBytes = recordBytes(turns);
+        this.indexes = new IdentityHashMap<>();
+
+        ByteArrayOutputStream table = new ByteArrayOutputStream();
+        try (DataOutputStream out = new DataOutputStream(table)) {
+            for (int i = 0; i < players.size(); i++) {
+                AbstractPlayer player = players.get(i);
+                indexes.put(player, i);
+                out.writeUTF(player.getDeveloperName());
+                out.writeUTF(Players.className(player));
+            }
+        }
+
+        // Records aligned on 8 bytes
+        this.recordsOffset = (HEADER_BYTES + table.size() + 7) & ~7L;
+
+        ByteBuffer header = ByteBuffer.allocate((int) recordsOffset);
+        header.putInt(MAGIC)
+                .putShort((short) VERSION)
+                .putShort((short) turns)
+                .putInt(players.size())
+                .putInt(melees)
+                .putLong(recordsOffset)
+                .put(table.toByteArray());
+        header.clear();
+
+        this.channel = FileChannel.open(file,
+                StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING);
+        write(header, 0);
+
+        // Unwritten records read as zeros
+        channel.truncate(recordsOffset);
+        if (melees > 0) {
+            write(ByteBuffer.allocate(1),
+                    recordsOffset + (long) melees * recordBytes - 1);
+        }
+    }
+
+    static int recordBytes(int turns) {
+        return RECORD_HEADER_BYTES + (turns + 1) / 2;
+    }
+
+    /**
+     * Writes the moves of a finished melee
+     *
+     * @param melee Schedule position of the melee
+     * @param session The melee
+     * @throws IOException If the record can not be written
+     */
+    public void write(int melee, MeleeSession session)
+            throws IOException {
+        write(melee, index(session.getPlayerA()), index(session.getPlayerB()),
+                session.getPlayerAMoves(), session.getPlayerBMoves(),
+                session.getCurrentTurn());
+    }
+
+    /**
+     * Writes the moves of a melee
+     *
+     * @param melee Schedule position of the melee
+     * @param playerA Player A index in the player table
+     * @param playerB Player B index in the player table
+     * @param playerAMoves Move ordinals of player A
+     * @param playerBMoves Move ordinals of player B
+     * @param turnsPlayed Turns played, at most {@link JanKenPonManager#TURNS}
+     * @throws IOException If the record can not be written
+     */
+    public void write(int melee, int playerA, int playerB,
+            byte[] playerAMoves, byte[] playerBMoves, int turnsPlayed)
+            throws IOException {
+
+        ByteBuffer record = ByteBuffer.allocate(recordBytes);
+        record.putInt(playerA)
+                .putInt(playerB)
+                .putShort((short) turnsPlayed);
+
+        for (int turn = 0; turn < turnsPlayed; turn += 2) {
+            int first = playerAMoves[turn] << 2 | playerBMoves[turn];
+            int second = turn + 1 < turnsPlayed
+                    ? playerAMoves[turn + 1] << 2 | playerBMoves[turn + 1]
+                    : 0;
+            record.put((byte) (first << 4 | second));
+        }
+        record.clear();
+
+        write(record, recordsOffset + (long) melee * recordBytes);
+    }
+
+    @Override
+    public void close()
+            throws IOException {
+        channel.force(true);
+        channel.close();
+    }
+
+    private int index(AbstractPlayer player) {
+        Integer index = indexes.get(player);
+        if (index == null) {
+            throw new IllegalArgumentException(
+                    "Player not in the table: " + player.getDeveloperName());
+        }
+        return index;
+    }
+
+    private void write(ByteBuffer buffer, long position)
+            throws IOException {
+        while (buffer.hasRemaining()) {
+            position += channel.write(buffer, position);
+        }
+    }
+}
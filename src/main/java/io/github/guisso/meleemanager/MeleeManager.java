@@ -0,0 +1,676 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2025 Luis Guisso &lt;luis.guisso at ifnmg.edu.br&gt;.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package io.github.guisso.meleemanager;
+
+import io.github.guisso.jankenpon.AbstractPlayer;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.io.Writer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Semaphore;
+
+/**
+ * Headless entry point: runs a tournament without the GUI.
+ * <p>
+ * Usage: {@code MeleeManager [--threads N] [--format F] [--shuffle]
+ * [--seed N] [--strong] [--move-timeout MS [--cpu-budget MS]
+ * [--allocations] [--alloc-budget BYTES]] [--log FILE]
+ * [--record FILE.jkp] [--checkpoint FILE [--checkpoint-interval S]]
+ * [--workers N [--unit N] [--unit-timeout S]] [--metrics FILE|- [--metrics-interval S]]
+ * [--early-stop CONFIDENCE] [--replications N] [--fresh-players]
+ * [--head-to-head FILE] [--sandbox [--sandbox-heap MB]] [--watch]}
+ * <p>
+ * Formats are {@code round-robin}, the default, {@code swiss[:ROUNDS]},
+ * {@code single}, {@code double} and {@code groups[:SIZE[:ADVANCE]]}, a
+ * group stage followed by a single elimination playoff. Other than
+ * round-robin, shuffling changes the seeding order of the players.
+ * <p>
+ * Without {@code --shuffle} the melees follow the pairing order, so
+ * deterministic players always reach the same standings. The seed of a
+ * shuffle is printed, and {@code --seed} repeats it; the schedule is
+ * computed as it is played by {@link Pairings}. {@code --strong} shuffles a
+ * stored schedule from the strong random source instead. With
+ * {@code --move-timeout} each move runs under a {@link MoveWatchdog}, and
+ * {@code --cpu-budget} limits the CPU time of a player in each melee.
+ * {@code --allocations} also counts the bytes allocated by the moves of each
+ * player, and {@code --alloc-budget} disqualifies a player that allocates
+ * more than that in one melee.
+ * {@code --log} writes every turn as CSV through an {@link AsyncMatchLog}
+ * and {@code --record} keeps the moves in the binary format of
+ * {@link MatchRecordWriter}.
+ * <p>
+ * {@code --checkpoint} saves the progress of a round-robin tournament every
+ * 30 seconds, or the given interval, and resumes from the file if it
+ * exists, with the same seed and skipping the melees already played.
+ * <p>
+ * {@code --workers} plays a round-robin tournament on that many
+ * {@link Worker} processes, in units of 4096 melees or the given size, each
+ * worker running {@code --threads} threads. A worker that takes more than
+ * 300 seconds, or the given unit timeout, to answer a unit is killed and the
+ * unit is played by another one.
+ * <p>
+ * {@code --metrics} times every move and writes the totals of
+ * {@link Metrics} as CSV every 5 seconds, or the given interval, to the
+ * file or to stderr, then the move latency of each player to
+ * {@code FILE-players.csv} or stderr. The metrics are also published
+ * through JMX.
+ * <p>
+ * {@code --early-stop} ends each melee once an {@link EarlyStop} test names
+ * its winner with the given confidence, such as 0.99, and extrapolates the
+ * scores; the turns saved are printed.
+ * <p>
+ * {@code --replications} plays that many shuffled round-robin tournaments
+ * through {@link MonteCarlo}, seeded from {@code --seed} or a new seed, and
+ * prints the mean score and rank of each player with their 95% intervals
+ * and the number of replications finished at each rank. Replications play
+ * bare melees, without the options that only apply to a single tournament.
+ * <p>
+ * {@code --fresh-players} plays every melee with new instances of the
+ * players, made by a {@link PlayerFactory}, so no history is carried from
+ * one opponent to the next and a player's melees may run at the same time.
+ * <p>
+ * {@code --head-to-head} writes the {@link HeadToHead} matrix as JSON if the
+ * file name ends in {@code .json}, otherwise as CSV, with the move counts
+ * of each player in {@code FILE-moves.csv}.
+ * <p>
+ * {@code --sandbox} runs the players of each jar in a process of its own
+ * through a {@link PlayerSandbox}, with a heap of 128 MB or the given size.
+ * A move the host does not answer within {@code --move-timeout}, or 1
+ * second without it, is forfeited; add {@code --move-timeout} to also
+ * forfeit the moves of players whose host crashed.
+ * <p>
+ * {@code --watch} keeps the process running after the standings: the
+ * players' directory is watched through a {@link PlayerRegistry} and the
+ * tournament is played again, with the current players, after each change.
+ *
+ * @author Luis Guisso &lt;luis.guisso at ifnmg.edu.br&gt;
+ * @version 0.1
+ * @since 0.1, Oct 18, 2026
+ */
+public final class MeleeManager {
+
+    private MeleeManager() {
+    }
+
+    /**
+     * @param args the command line arguments
+     * @throws Exception If players fail to load or to play
+     */
+    public static void main(String[] args)
+            throws Exception {
+
+        Options options = Options.parse(args);
+
+        if (options.sandboxed()) {
+            long start = System.nanoTime();
+            try (PlayerSandbox sandbox
+                    = new PlayerSandbox(Path.of("players"))) {
+                sandbox.setJvmOptions(List.of("-Xmx" + options.sandboxHeap()
+                        + "m", "-XX:+UseSerialGC"));
+                if (options.moveTimeout() > 0) {
+                    sandbox.setMoveTimeout(
+                            Duration.ofMillis(options.moveTimeout()));
+                }
+                List<AbstractPlayer> players = sandbox.load();
+                System.out.printf("# %d sandboxed players in %.1f ms%n",
+                        players.size(), (System.nanoTime() - start) / 1e6);
+                play(options, players);
+            }
+            return;
+        }
+
+        List<AbstractPlayer> players = JanKenPonManager.loadPlayers();
+        System.out.println("# " + JanKenPonManager.getLoadReport());
+
+        if (options.replications() > 0) {
+            replicate(players, options.replications(),
+                    options.seed() == null
+                    ? JanKenPonManager.newSeed()
+                    : options.seed(),
+                    options.threads());
+            return;
+        }
+        if (options.watch()) {
+            watch(options);
+            return;
+        }
+        play(options, players);
+    }
+
+    /**
+     * Plays a tournament after every change of the players, until killed
+     */
+    private static void watch(Options options)
+            throws Exception {
+
+        PlayerRegistry registry = JanKenPonManager.getRegistry();
+        Semaphore changes = new Semaphore(0);
+        registry.addListener((jarName, removed, added) -> changes.release());
+        registry.watch();
+
+        while (true) {
+            List<AbstractPlayer> players = registry.acquire();
+            try {
+                play(options, players);
+            } finally {
+                registry.release();
+            }
+
+            System.out.println("# waiting for the players to change");
+            changes.acquire();
+            changes.drainPermits();
+        }
+    }
+
+    /**
+     * Plays one tournament and prints its standings
+     */
+    private static void play(Options options, List<AbstractPlayer> players)
+            throws Exception {
+
+        boolean shuffle = options.shuffle();
+        Long seed = options.seed();
+        Checkpoint resumed = null;
+        if (options.checkpoint() != null
+                && Files.exists(options.checkpoint())) {
+            resumed = Checkpoint.read(options.checkpoint());
+            seed = resumed.getSeed();
+            shuffle = seed != null;
+        }
+
+        TournamentFormat format;
+        List<AbstractPlayer> seeding = players;
+        if (!options.formatName().equals("round-robin")) {
+            if (options.strong()) {
+                seeding = new ArrayList<>(players);
+                Collections.shuffle(seeding, SecureRandom.getInstanceStrong());
+                System.out.println("# strong shuffle");
+            } else if (shuffle) {
+                if (seed == null) {
+                    seed = JanKenPonManager.newSeed();
+                }
+                seeding = new ArrayList<>(players);
+                Collections.shuffle(seeding, new SplittableRandom(seed));
+                System.out.println("# seed " + seed);
+            }
+            format = format(options.formatName());
+        } else if (options.strong()) {
+            AbstractPlayer[][] melees = TournamentEngine.roundRobin(players);
+            JanKenPonManager.randomizeStrong(melees);
+            System.out.println("# strong shuffle");
+            format = new RoundRobinFormat(melees);
+        } else if (shuffle) {
+            if (seed == null) {
+                seed = JanKenPonManager.newSeed();
+            }
+            format = new RoundRobinFormat(new Pairings(players, seed));
+            System.out.println("# seed " + seed);
+        } else {
+            format = new RoundRobinFormat(new Pairings(players));
+        }
+
+        long maxMelees = format.maxMelees(players.size());
+        if (resumed != null) {
+            if (resumed.getMelees() != maxMelees) {
+                throw new IllegalArgumentException("Checkpoint has "
+                        + resumed.getMelees() + " melees, schedule has "
+                        + maxMelees);
+            }
+            ((RoundRobinFormat) format).resume(
+                    resumed.getCompleted(), resumed.getScores(players));
+            System.out.printf("# resumed %d of %d melees%n",
+                    resumed.getCompleted().cardinality(), resumed.getMelees());
+        }
+
+        if (options.workers() > 0) {
+            distribute(options, players, shuffle ? seed : null, maxMelees);
+            return;
+        }
+
+        if (maxMelees > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Too many melees: " + maxMelees);
+        }
+
+        TournamentEngine engine = new TournamentEngine(
+                seeding, format, options.threads());
+        engine.setEarlyStop(options.earlyStop());
+        if (options.freshPlayers()) {
+            engine.setPlayerFactory(new PlayerFactory());
+        }
+
+        HeadToHead headToHead = options.headToHead() == null
+                ? null
+                : new HeadToHead(players);
+
+        List<Standing> standings;
+        long start = System.nanoTime();
+        try (MoveWatchdog watchdog = watchdog(options);
+                MatchLog matchLog = options.log() == null
+                ? MatchLog.NONE
+                : new AsyncMatchLog(options.log());
+                MatchRecordWriter matchRecords = options.record() == null
+                ? null
+                : new MatchRecordWriter(options.record(), players,
+                        (int) maxMelees);
+                CheckpointWriter checkpointWriter = options.checkpoint() == null
+                ? null
+                : new CheckpointWriter(options.checkpoint(), players,
+                        shuffle ? seed : null, (int) maxMelees, resumed,
+                        Duration.ofSeconds(options.checkpointInterval()))) {
+
+            engine.setWatchdog(watchdog);
+            engine.setMatchLog(matchLog);
+            engine.setMatchRecords(matchRecords);
+            engine.setListener(checkpointWriter == null
+                    ? headToHead
+                    : checkpointWriter.andThen(headToHead));
+
+            standings = run(engine, options.metrics(),
+                    options.metricsInterval());
+
+            if (watchdog != null) {
+                report(watchdog, options.allocations());
+            }
+        }
+        if (headToHead != null) {
+            write(headToHead, options.headToHead());
+        }
+        long elapsed = System.nanoTime() - start;
+
+        if (options.earlyStop() != null) {
+            long turns = (long) engine.getMelees() * JanKenPonManager.TURNS;
+            System.out.printf("# early stop saved %d of %d turns (%.1f%%)%n",
+                    engine.getTurnsSaved(), turns,
+                    turns == 0 ? 0.0 : 100.0 * engine.getTurnsSaved() / turns);
+        }
+
+        System.out.printf("# %d players, %d melees, %d threads, %.3f s%n",
+                players.size(), engine.getMelees(), options.threads(),
+                elapsed / 1e9);
+        print(standings);
+    }
+
+    /**
+     * Plays a round-robin tournament on worker processes
+     */
+    private static void distribute(Options options,
+            List<AbstractPlayer> players, Long seed, long melees)
+            throws IOException, InterruptedException {
+
+        Coordinator coordinator = new Coordinator(
+                players, seed, options.workers());
+        coordinator.setUnitSize(options.unitSize());
+        coordinator.setWorkerThreads(options.threads());
+        coordinator.setUnitTimeout(Duration.ofSeconds(options.unitTimeout()));
+        if (options.moveTimeout() > 0) {
+            coordinator.setWatchdog(Duration.ofMillis(options.moveTimeout()),
+                    options.cpuBudget() > 0
+                    ? Duration.ofMillis(options.cpuBudget())
+                    : null);
+        }
+
+        long start = System.nanoTime();
+        List<Standing> standings = coordinator.run();
+        long elapsed = System.nanoTime() - start;
+
+        System.out.printf("# %d players, %d melees, %d workers, %.3f s%n",
+                players.size(), melees, options.workers(), elapsed / 1e9);
+        print(standings);
+    }
+
+    /**
+     * @return The watchdog asked by the options, or null
+     */
+    private static MoveWatchdog watchdog(Options options) {
+        if (options.moveTimeout() <= 0) {
+            return null;
+        }
+
+        MoveWatchdog watchdog = new MoveWatchdog(
+                Duration.ofMillis(options.moveTimeout()),
+                options.cpuBudget() > 0
+                ? Duration.ofMillis(options.cpuBudget())
+                : null);
+        if (options.allocations()) {
+            watchdog.trackAllocations(options.allocationBudget());
+        }
+        return watchdog;
+    }
+
+    /**
+     * Runs the engine, dumping its metrics meanwhile if asked
+     *
+     * @param metrics Metrics file, "-" for stderr, or null
+     */
+    private static List<Standing> run(TournamentEngine engine,
+            String metrics, long metricsInterval)
+            throws Exception {
+
+        if (metrics == null) {
+            return engine.run();
+        }
+
+        Metrics.getInstance().enable();
+        Metrics.getInstance().startDump(
+                metrics.equals("-") ? null : Path.of(metrics),
+                Duration.ofSeconds(metricsInterval));
+        List<Standing> standings;
+        try {
+            standings = engine.run();
+        } finally {
+            Metrics.getInstance().stopDump();
+        }
+
+        if (metrics.equals("-")) {
+            Metrics.getInstance().writePlayers(System.err);
+        } else {
+            try (PrintStream out = new PrintStream(Files.newOutputStream(
+                    Path.of(metrics.replaceFirst("(\\.csv)?$", "-players.csv"))))) {
+                Metrics.getInstance().writePlayers(out);
+            }
+        }
+        return standings;
+    }
+
+    private static void report(MoveWatchdog watchdog, boolean allocations) {
+        System.out.printf("# %d forfeited moves%n",
+                watchdog.getForfeitCount());
+        watchdog.getForfeitsByReason().forEach((reason, count) -> {
+            if (count > 0) {
+                System.out.printf("# %d %s%n", count, reason);
+            }
+        });
+        if (!allocations) {
+            return;
+        }
+
+        System.out.println(
+                "# bytes,moves,bytes_per_move,max_move_bytes,disqualified,player");
+        for (MoveWatchdog.Allocation allocation : watchdog.getAllocations()) {
+            System.out.printf("# %d,%d,%d,%d,%b,%s%n",
+                    allocation.bytes(), allocation.moves(),
+                    allocation.bytesPerMove(), allocation.maxMoveBytes(),
+                    allocation.disqualified(),
+                    allocation.player().getDeveloperName());
+        }
+    }
+
+    private static void replicate(List<AbstractPlayer> players,
+            int replications, long seed, int threads)
+            throws InterruptedException, ExecutionException {
+
+        MonteCarlo monteCarlo = new MonteCarlo(
+                players, replications, seed, threads);
+
+        long start = System.nanoTime();
+        List<MonteCarlo.Summary> summaries = monteCarlo.run();
+        long elapsed = System.nanoTime() - start;
+
+        System.out.printf("# %d players, %d replications, seed %d, %d threads, %.3f s%n",
+                players.size(), replications, seed, threads, elapsed / 1e9);
+        System.out.println("# mean_rank,rank_low,rank_high,mean_score,"
+                + "score_low,score_high,player,rank_counts");
+        for (MonteCarlo.Summary summary : summaries) {
+            StringBuilder counts = new StringBuilder();
+            for (long count : summary.rankCounts()) {
+                counts.append(counts.isEmpty() ? "" : " ").append(count);
+            }
+            System.out.printf("%.2f,%d,%d,%.1f,%.1f,%.1f,%s,%s%n",
+                    summary.meanRank(), summary.rankLow(), summary.rankHigh(),
+                    summary.meanScore(), summary.scoreLow(),
+                    summary.scoreHigh(),
+                    summary.player().getDeveloperName(), counts);
+        }
+    }
+
+    private static void write(HeadToHead headToHead, Path file)
+            throws IOException {
+        String name = file.toString();
+        if (name.endsWith(".json")) {
+            try (Writer out = Files.newBufferedWriter(file)) {
+                headToHead.writeJson(out);
+            }
+            return;
+        }
+
+        try (Writer out = Files.newBufferedWriter(file)) {
+            headToHead.writeCsv(out);
+        }
+        try (Writer out = Files.newBufferedWriter(Path.of(
+                name.replaceFirst("(\\.csv)?$", "-moves.csv")))) {
+            headToHead.writeMovesCsv(out);
+        }
+    }
+
+    private static void print(List<Standing> standings) {
+        int rank = 1;
+        for (Standing standing : standings) {
+            System.out.printf("%d,%d,%s%n",
+                    rank++, standing.score(),
+                    standing.player().getDeveloperName());
+        }
+    }
+
+    /**
+     * @param name Format name and parameters, separated by colons
+     * @return The format
+     */
+    private static TournamentFormat format(String name) {
+        String[] parts = name.split(":");
+        return switch (parts[0]) {
+            case "swiss" ->
+                new SwissFormat(parts.length > 1 ? Integer.parseInt(parts[1]) : 0);
+            case "single" ->
+                new EliminationFormat(false);
+            case "double" ->
+                new EliminationFormat(true);
+            case "groups" ->
+                new GroupStageFormat(
+                        parts.length > 1 ? Integer.parseInt(parts[1]) : 8,
+                        parts.length > 2 ? Integer.parseInt(parts[2]) : 2,
+                        new EliminationFormat(false));
+            default ->
+                throw new IllegalArgumentException("Unknown format: " + name);
+        };
+    }
+
+    /**
+     * Command line options
+     */
+    private record Options(int threads, String formatName, boolean shuffle,
+            Long seed, boolean strong, long moveTimeout, long cpuBudget,
+            boolean allocations, long allocationBudget, Path log, Path record,
+            Path checkpoint, long checkpointInterval, int workers,
+            int unitSize, long unitTimeout, String metrics,
+            long metricsInterval, EarlyStop earlyStop, int replications,
+            boolean freshPlayers, Path headToHead, boolean sandboxed,
+            long sandboxHeap, boolean watch) {
+
+        /**
+         * @param args the command line arguments
+         * @return The options
+         * @throws IllegalArgumentException If an option is unknown or the
+         * options can not be combined
+         */
+        static Options parse(String[] args) {
+            int threads = Runtime.getRuntime().availableProcessors();
+            boolean shuffle = false;
+            Long seed = null;
+            boolean strong = false;
+            long moveTimeout = 0;
+            long cpuBudget = 0;
+            boolean allocations = false;
+            long allocationBudget = 0;
+            Path log = null;
+            Path record = null;
+            String formatName = "round-robin";
+            Path checkpoint = null;
+            long checkpointInterval = 30;
+            int workers = 0;
+            int unitSize = 4096;
+            long unitTimeout = 300;
+            String metrics = null;
+            long metricsInterval = 5;
+            EarlyStop earlyStop = null;
+            int replications = 0;
+            boolean freshPlayers = false;
+            Path headToHead = null;
+            boolean sandboxed = false;
+            long sandboxHeap = 128;
+            boolean watch = false;
+
+            for (int i = 0; i < args.length; i++) {
+                switch (args[i]) {
+                    case "--threads" ->
+                        threads = Integer.parseInt(args[++i]);
+                    case "--format" ->
+                        formatName = args[++i];
+                    case "--shuffle" ->
+                        shuffle = true;
+                    case "--seed" -> {
+                        shuffle = true;
+                        seed = Long.valueOf(args[++i]);
+                    }
+                    case "--strong" -> {
+                        shuffle = true;
+                        strong = true;
+                    }
+                    case "--move-timeout" ->
+                        moveTimeout = Long.parseLong(args[++i]);
+                    case "--cpu-budget" ->
+                        cpuBudget = Long.parseLong(args[++i]);
+                    case "--allocations" ->
+                        allocations = true;
+                    case "--alloc-budget" -> {
+                        allocations = true;
+                        allocationBudget = Long.parseLong(args[++i]);
+                    }
+                    case "--log" ->
+                        log = Path.of(args[++i]);
+                    case "--record" ->
+                        record = Path.of(args[++i]);
+                    case "--checkpoint" ->
+                        checkpoint = Path.of(args[++i]);
+                    case "--checkpoint-interval" ->
+                        checkpointInterval = Long.parseLong(args[++i]);
+                    case "--workers" ->
+                        workers = Integer.parseInt(args[++i]);
+                    case "--unit" ->
+                        unitSize = Integer.parseInt(args[++i]);
+                    case "--unit-timeout" ->
+                        unitTimeout = Long.parseLong(args[++i]);
+                    case "--early-stop" ->
+                        earlyStop = new EarlyStop(Double.parseDouble(args[++i]));
+                    case "--replications" ->
+                        replications = Integer.parseInt(args[++i]);
+                    case "--fresh-players" ->
+                        freshPlayers = true;
+                    case "--head-to-head" ->
+                        headToHead = Path.of(args[++i]);
+                    case "--sandbox" ->
+                        sandboxed = true;
+                    case "--sandbox-heap" -> {
+                        sandboxed = true;
+                        sandboxHeap = Long.parseLong(args[++i]);
+                    }
+                    case "--watch" ->
+                        watch = true;
+                    case "--metrics" ->
+                        metrics = args[++i];
+                    case "--metrics-interval" ->
+                        metricsInterval = Long.parseLong(args[++i]);
+                    default ->
+                        throw new IllegalArgumentException("Unknown option: " + args[i]);
+                }
+            }
+
+            Options options = new Options(threads, formatName, shuffle, seed,
+                    strong, moveTimeout, cpuBudget, allocations,
+                    allocationBudget, log, record, checkpoint,
+                    checkpointInterval, workers, unitSize, unitTimeout,
+                    metrics, metricsInterval, earlyStop, replications,
+                    freshPlayers, headToHead, sandboxed, sandboxHeap, watch);
+            options.validate();
+            return options;
+        }
+
+        private void validate() {
+            boolean roundRobin = formatName.equals("round-robin");
+
+            if (sandboxed && (workers > 0 || replications > 0 || freshPlayers
+                    || allocations)) {
+                throw new IllegalArgumentException("Sandboxed players can not"
+                        + " play on workers, replications, fresh instances or"
+                        + " count allocations");
+            }
+
+            if (replications > 0 && (!roundRobin || strong || workers > 0
+                    || moveTimeout > 0 || cpuBudget > 0 || earlyStop != null
+                    || freshPlayers || metrics != null || headToHead != null
+                    || checkpoint != null || log != null || record != null)) {
+                throw new IllegalArgumentException("Replications only play"
+                        + " round-robin schedules without --strong, workers,"
+                        + " move timeouts, CPU budgets, early stops, fresh"
+                        + " players, metrics, head-to-head, checkpoints, logs"
+                        + " or records");
+            }
+
+            if (watch && (sandboxed || workers > 0 || replications > 0
+                    || checkpoint != null)) {
+                throw new IllegalArgumentException("Watched players can not"
+                        + " be sandboxed or play on workers, replications or"
+                        + " checkpoints");
+            }
+
+            if (checkpoint != null && (!roundRobin || strong)) {
+                throw new IllegalArgumentException(
+                        "Checkpoints need a round-robin schedule without --strong");
+            }
+
+            if (allocations && moveTimeout <= 0) {
+                // Moves must run on the watchdog threads to be measured
+                throw new IllegalArgumentException(
+                        "Allocations are only counted with --move-timeout");
+            }
+
+            if (workers > 0 && (!roundRobin || strong || allocations
+                    || earlyStop != null || freshPlayers || metrics != null
+                    || headToHead != null || checkpoint != null || log != null
+                    || record != null)) {
+                throw new IllegalArgumentException("Workers only play"
+                        + " round-robin schedules without --strong,"
+                        + " allocations, early stops, fresh players, metrics,"
+                        + " head-to-head, checkpoints, logs or records");
+            }
+        }
+    }
+}
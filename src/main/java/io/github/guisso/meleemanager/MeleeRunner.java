@@ -0,0 +1,205 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2025 Luis Guisso &lt;luis.guisso at ifnmg.edu.br&gt;.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package io.github.guisso.meleemanager;
+
+import io.github.guisso.jankenpon.AbstractPlayer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.IntStream;
+
+/**
+ * Plays batches of melees for a {@link TournamentFormat}.
+ * <p>
+ * A batch is split in rounds where no player appears twice, keeping the
+ * order in which each player faces its opponents, and the melees of a round
+ * are played in parallel. Melees are numbered in the order they are handed
+ * in, across batches, unless the format numbers them.
+ * <p>
+ * With a {@link PlayerFactory} every melee has its own player instances, so
+ * the whole batch is played in parallel as a single round.
+ *
+ * @author Luis Guisso &lt;luis.guisso at ifnmg.edu.br&gt;
+ * @version 0.1
+ * @since 0.1, Oct 18, 2026
+ */
+public final class MeleeRunner {
+
+    private final ForkJoinPool pool;
+    private final MoveWatchdog watchdog;
+    private final MatchLog matchLog;
+    private final MatchRecordWriter matchRecords;
+    private final TournamentEngine.Listener listener;
+    private final EarlyStop earlyStop;
+    private final PlayerFactory factory;
+    private final LongAdder turnsSaved;
+    private int melees;
+
+    MeleeRunner(ForkJoinPool pool, MoveWatchdog watchdog, MatchLog matchLog,
+            MatchRecordWriter matchRecords, TournamentEngine.Listener listener,
+            EarlyStop earlyStop, PlayerFactory factory) {
+        this.pool = pool;
+        this.watchdog = watchdog;
+        this.matchLog = matchLog;
+        this.matchRecords = matchRecords;
+        this.listener = listener;
+        this.earlyStop = earlyStop;
+        this.factory = factory;
+        this.turnsSaved = new LongAdder();
+    }
+
+    /**
+     * Plays a batch of melees
+     *
+     * @param batch Pair players, in the order they must be played
+     * @return The finished melees, in the same order
+     * @throws InterruptedException If interrupted while waiting the workers
+     * @throws ExecutionException If a player fails to make a move, or the
+     * match records can not be written
+     */
+    public List<MeleeSession> play(List<AbstractPlayer[]> batch)
+            throws InterruptedException, ExecutionException {
+        int[] numbers = new int[batch.size()];
+        for (int i = 0; i < numbers.length; i++) {
+            numbers[i] = melees + i;
+        }
+        return play(batch, numbers);
+    }
+
+    /**
+     * Plays a batch of melees with the given numbers, for formats that skip
+     * part of a schedule
+     *
+     * @param batch Pair players, in the order they must be played
+     * @param numbers Number of each melee in the log and the records
+     * @return The finished melees, in the same order
+     * @throws InterruptedException If interrupted while waiting the workers
+     * @throws ExecutionException If a player fails to make a move, or the
+     * match records can not be written
+     */
+    public List<MeleeSession> play(List<AbstractPlayer[]> batch, int[] numbers)
+            throws InterruptedException, ExecutionException {
+
+        melees += batch.size();
+        MeleeSession[] sessions = new MeleeSession[batch.size()];
+
+        List<List<Integer>> rounds = factory == null
+                ? rounds(batch)
+                : List.of(IntStream.range(0, batch.size()).boxed().toList());
+
+        for (List<Integer> round : rounds) {
+            List<Callable<MeleeSession>> tasks = new ArrayList<>(round.size());
+            for (int index : round) {
+                AbstractPlayer[] pair = batch.get(index);
+                int melee = numbers[index];
+                tasks.add(() -> {
+                    MeleeSession session = new MeleeSession(
+                            pair[0], pair[1], watchdog, factory);
+                    session.setMatchLog(matchLog, melee);
+                    session.setEarlyStop(earlyStop);
+                    session.playAll();
+                    turnsSaved.add(session.getTurnsSaved());
+                    if (matchRecords != null) {
+                        matchRecords.write(melee, session);
+                    }
+                    if (listener != null) {
+                        listener.meleeFinished(melee, session);
+                    }
+                    return session;
+                });
+            }
+
+            List<Future<MeleeSession>> futures = pool.invokeAll(tasks);
+            for (int i = 0; i < round.size(); i++) {
+                sessions[round.get(i)] = futures.get(i).get();
+            }
+        }
+
+        return Arrays.asList(sessions);
+    }
+
+    /**
+     * @return Number of melees played so far
+     */
+    public int getMelees() {
+        return melees;
+    }
+
+    /**
+     * @return Turns not played because of the early stop so far
+     */
+    public long getTurnsSaved() {
+        return turnsSaved.sum();
+    }
+
+    /**
+     * Adds the points of finished melees to the players' scores
+     *
+     * @param scores Score of each player, updated
+     * @param sessions Finished melees
+     */
+    public static void addScores(Map<AbstractPlayer, Long> scores,
+            List<MeleeSession> sessions) {
+        for (MeleeSession session : sessions) {
+            scores.merge(session.getPlayerA(),
+                    (long) session.getPlayerAScore(), Long::sum);
+            scores.merge(session.getPlayerB(),
+                    (long) session.getPlayerBScore(), Long::sum);
+        }
+    }
+
+    /**
+     * Splits a batch in rounds of melees without shared players. A melee goes
+     * to the round after the last one of both its players, so every player
+     * keeps facing its opponents in batch order.
+     */
+    private static List<List<Integer>> rounds(List<AbstractPlayer[]> batch) {
+        Map<AbstractPlayer, Integer> lastRound = new IdentityHashMap<>();
+        List<List<Integer>> rounds = new ArrayList<>();
+
+        for (int melee = 0; melee < batch.size(); melee++) {
+            AbstractPlayer[] pair = batch.get(melee);
+            int round = 1 + Math.max(
+                    lastRound.getOrDefault(pair[0], -1),
+                    lastRound.getOrDefault(pair[1], -1));
+
+            if (round == rounds.size()) {
+                rounds.add(new ArrayList<>());
+            }
+
+            rounds.get(round).add(melee);
+            lastRound.put(pair[0], round);
+            lastRound.put(pair[1], round);
+        }
+
+        return rounds;
+    }
+}
@@ -0,0 +1,401 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2025 Luis Guisso &lt;luis.guisso at ifnmg.edu.br&gt;.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package io.github.guisso.meleemanager;
+
+import io.github.guisso.jankenpon.AbstractPlayer;
+import io.github.guisso.jankenpon.Move;
+import io.github.guisso.jankenpon.Result;
+
+/**
+ * State of a single melee: turn counter, previous moves, consecutive wins and
+ * scores.
+ * <p>
+ * Sessions share nothing, so any number of melees may run at the same time
+ * as long as each player instance is used by one session at a time. Points
+ * are kept in the session; the players' own scores are left untouched.
+ * <p>
+ * With a {@link MoveWatchdog} the moves run on worker threads, bounded by
+ * the watchdog deadline and CPU budget. With an {@link EarlyStop} the melee
+ * may finish before the last turn, with extrapolated scores. With a
+ * {@link PlayerFactory} the moves are made by new instances of the players,
+ * while the players themselves identify the sides of the melee.
+ *
+ * @author Luis Guisso &lt;luis.guisso at ifnmg.edu.br&gt;
+ * @version 0.1
+ * @since 0.1, Oct 18, 2026
+ */
+public final class MeleeSession {
+
+    private final AbstractPlayer playerA;
+    private final AbstractPlayer playerB;
+    private final AbstractPlayer playerAInstance;
+    private final AbstractPlayer playerBInstance;
+    private final OutcomeTable outcomes;
+    private final MoveWatchdog.Guard playerAGuard;
+    private final MoveWatchdog.Guard playerBGuard;
+
+    private int currentTurn;
+    private Move playerAPreviousMove;
+    private Move playerBPreviousMove;
+
+    // Move ordinals of each turn
+    private final byte[] playerAMoves;
+    private final byte[] playerBMoves;
+
+    // Consecutive wins and last turn points of each player
+    private final int[] streak;
+    private final int[] points;
+
+    private int playerAScore;
+    private int playerBScore;
+
+    // Turns with a winner, for the early stop
+    private EarlyStop earlyStop;
+    private int playerAWins;
+    private int playerBWins;
+    private boolean stopped;
+
+    private MatchLog matchLog;
+    private int melee;
+
+    // Instrumentation, stats null while metrics are disabled
+    private final Metrics.PlayerStats playerAStats;
+    private final Metrics.PlayerStats playerBStats;
+    private final MeleeEvent event;
+    // Reused by every move, as the moves of a session are sequential
+    private final MoveEvent moveEvent;
+    private long start;
+
+    /**
+     * @param playerA Player A
+     * @param playerB Player B
+     */
+    public MeleeSession(AbstractPlayer playerA, AbstractPlayer playerB) {
+        this(playerA, playerB, null);
+    }
+
+    /**
+     * @param playerA Player A
+     * @param playerB Player B
+     * @param watchdog Runs the moves with deadlines, null to run them on the
+     * caller's thread
+     */
+    public MeleeSession(AbstractPlayer playerA, AbstractPlayer playerB,
+            MoveWatchdog watchdog) {
+        this(playerA, playerB, watchdog, null);
+    }
+
+    /**
+     * @param playerA Player A
+     * @param playerB Player B
+     * @param watchdog Runs the moves with deadlines, null to run them on the
+     * caller's thread
+     * @param factory Makes the instances that play in place of the players,
+     * null to let the players play
+     */
+    public MeleeSession(AbstractPlayer playerA, AbstractPlayer playerB,
+            MoveWatchdog watchdog, PlayerFactory factory) {
+        this.playerA = playerA;
+        this.playerB = playerB;
+        this.playerAInstance = factory == null ? playerA : factory.newInstance(playerA);
+        this.playerBInstance = factory == null ? playerB : factory.newInstance(playerB);
+        this.outcomes = OutcomeTable.getInstance();
+        this.playerAGuard = watchdog == null
+                ? null
+                : watchdog.guard(playerA, playerAInstance);
+        this.playerBGuard = watchdog == null
+                ? null
+                : watchdog.guard(playerB, playerBInstance);
+        this.playerAPreviousMove = Move.NONE;
+        this.playerBPreviousMove = Move.NONE;
+        this.playerAMoves = new byte[JanKenPonManager.TURNS];
+        this.playerBMoves = new byte[JanKenPonManager.TURNS];
+        this.streak = new int[2];
+        this.points = new int[2];
+
+        Metrics metrics = Metrics.getInstance();
+        this.playerAStats = metrics.player(playerA);
+        this.playerBStats = metrics.player(playerB);
+        this.event = new MeleeEvent();
+        this.moveEvent = new MoveEvent();
+    }
+
+    /**
+     * Records every following turn
+     *
+     * @param matchLog Destination of the records, null for none
+     * @param melee Melee number written in the records
+     */
+    public void setMatchLog(MatchLog matchLog, int melee) {
+        this.matchLog = matchLog;
+        this.melee = melee;
+    }
+
+    /**
+     * Stops the melee once its winner is known
+     *
+     * @param earlyStop The test, null to play all the turns
+     */
+    public void setEarlyStop(EarlyStop earlyStop) {
+        this.earlyStop = earlyStop;
+    }
+
+    /**
+     * Asks both players for a move and scores them
+     *
+     * @return The result of the turn
+     */
+    public Result play() {
+        return judge(playerAMove(), playerBMove());
+    }
+
+    /**
+     * Asks player A for its move of the current turn
+     *
+     * @return The move
+     */
+    public Move playerAMove() {
+        return move(playerAInstance, playerAGuard, playerAStats, playerBPreviousMove);
+    }
+
+    /**
+     * Asks player B for its move of the current turn
+     *
+     * @return The move
+     */
+    public Move playerBMove() {
+        return move(playerBInstance, playerBGuard, playerBStats, playerAPreviousMove);
+    }
+
+    private Move move(AbstractPlayer player, MoveWatchdog.Guard guard,
+            Metrics.PlayerStats stats, Move opponentPreviousMove) {
+        moveEvent.begin();
+        long moveStart = stats == null ? 0 : System.nanoTime();
+
+        Move move = guard == null
+                ? player.makeMyMove(opponentPreviousMove)
+                : guard.move(opponentPreviousMove, currentTurn);
+
+        if (stats != null) {
+            stats.recordMove(System.nanoTime() - moveStart);
+        }
+        moveEvent.end();
+        if (moveEvent.shouldCommit()) {
+            moveEvent.player = player.getDeveloperName();
+            moveEvent.turn = currentTurn;
+            moveEvent.move = String.valueOf(move);
+            moveEvent.commit();
+        }
+        return move;
+    }
+
+    /**
+     * Plays all the remaining turns. A new melee without match log or early
+     * stop is scored in one pass once all its moves are made.
+     */
+    public void playAll() {
+        if (currentTurn == 0 && matchLog == null && earlyStop == null) {
+            playBatch();
+            return;
+        }
+
+        while (!isFinished()) {
+            play();
+        }
+    }
+
+    /**
+     * Records the moves of every turn, then scores them in one pass
+     */
+    private void playBatch() {
+        start = System.nanoTime();
+        event.begin();
+
+        while (currentTurn < JanKenPonManager.TURNS) {
+            Move playerAMove = playerAMove();
+            Move playerBMove = playerBMove();
+            playerAMoves[currentTurn] = (byte) playerAMove.ordinal();
+            playerBMoves[currentTurn] = (byte) playerBMove.ordinal();
+            playerAPreviousMove = playerAMove;
+            playerBPreviousMove = playerBMove;
+            currentTurn++;
+        }
+
+        outcomes.score(playerAMoves, playerBMoves, currentTurn, points);
+        playerAScore = points[0];
+        playerBScore = points[1];
+
+        finished();
+    }
+
+    /**
+     * Scores moves already made by both players and advances the turn
+     *
+     * @param playerAMove Player A move
+     * @param playerBMove Player B move
+     * @return The result of the turn
+     */
+    public Result judge(Move playerAMove, Move playerBMove) {
+        if (isFinished()) {
+            throw new IllegalStateException("Melee already finished");
+        }
+        if (currentTurn == 0) {
+            start = System.nanoTime();
+            event.begin();
+        }
+
+        outcomes.score(playerAMove, playerBMove, streak, points);
+        playerAScore += points[0];
+        playerBScore += points[1];
+
+        switch (outcomes.winner(playerAMove, playerBMove)) {
+            case OutcomeTable.PLAYER_A ->
+                playerAWins++;
+            case OutcomeTable.PLAYER_B ->
+                playerBWins++;
+            default -> {
+            }
+        }
+
+        if (matchLog != null) {
+            matchLog.record(melee, currentTurn,
+                    playerAScore, playerAMove, playerBMove, playerBScore);
+        }
+
+        playerAMoves[currentTurn] = (byte) playerAMove.ordinal();
+        playerBMoves[currentTurn] = (byte) playerBMove.ordinal();
+        playerAPreviousMove = playerAMove;
+        playerBPreviousMove = playerBMove;
+        currentTurn++;
+
+        if (earlyStop != null && !isFinished()
+                && earlyStop.isDecided(currentTurn, playerAWins, playerBWins)) {
+            stopped = true;
+            playerAScore = EarlyStop.extrapolate(playerAScore, currentTurn);
+            playerBScore = EarlyStop.extrapolate(playerBScore, currentTurn);
+        }
+
+        if (isFinished()) {
+            finished();
+        }
+
+        return outcomes.result(playerAMove, playerBMove);
+    }
+
+    /**
+     * Counts the melee once its last turn is played
+     */
+    private void finished() {
+        Metrics.getInstance().recordMelee(currentTurn, System.nanoTime() - start);
+
+        event.end();
+        if (event.shouldCommit()) {
+            event.melee = melee;
+            event.playerA = playerA.getDeveloperName();
+            event.playerB = playerB.getDeveloperName();
+            event.playerAScore = playerAScore;
+            event.playerBScore = playerBScore;
+            event.turns = currentTurn;
+            event.commit();
+        }
+    }
+
+    public boolean isFinished() {
+        return stopped || currentTurn >= JanKenPonManager.TURNS;
+    }
+
+    /**
+     * @return Whether the melee was stopped early, with extrapolated scores
+     */
+    public boolean isStopped() {
+        return stopped;
+    }
+
+    /**
+     * @return Turns not played because of the early stop
+     */
+    public int getTurnsSaved() {
+        return stopped ? JanKenPonManager.TURNS - currentTurn : 0;
+    }
+
+    public AbstractPlayer getPlayerA() {
+        return playerA;
+    }
+
+    public AbstractPlayer getPlayerB() {
+        return playerB;
+    }
+
+    public int getCurrentTurn() {
+        return currentTurn;
+    }
+
+    public Move getPlayerAPreviousMove() {
+        return playerAPreviousMove;
+    }
+
+    public Move getPlayerBPreviousMove() {
+        return playerBPreviousMove;
+    }
+
+    public int getPlayerAScore() {
+        return playerAScore;
+    }
+
+    public int getPlayerBScore() {
+        return playerBScore;
+    }
+
+    /**
+     * Move ordinals of player A, one per turn played. Not a copy.
+     *
+     * @return The moves
+     */
+    public byte[] getPlayerAMoves() {
+        return playerAMoves;
+    }
+
+    /**
+     * Move ordinals of player B, one per turn played. Not a copy.
+     *
+     * @return The moves
+     */
+    public byte[] getPlayerBMoves() {
+        return playerBMoves;
+    }
+
+    /**
+     * @return Moves of player A forfeited to the watchdog
+     */
+    public int getPlayerAForfeits() {
+        return playerAGuard == null ? 0 : playerAGuard.getForfeitCount();
+    }
+
+    /**
+     * @return Moves of player B forfeited to the watchdog
+     */
+    public int getPlayerBForfeits() {
+        return playerBGuard == null ? 0 : playerBGuard.getForfeitCount();
+    }
+}
@@ -0,0 +1,438 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2025 Luis Guisso &lt;luis.guisso at ifnmg.edu.br&gt;.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package io.github.guisso.meleemanager;
+
+import io.github.guisso.jankenpon.AbstractPlayer;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.lang.management.ManagementFactory;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+/**
+ * Counters and latency histograms of the tournament runner.
+ * <p>
+ * Melees, turns, icon renders and jar loads are always counted. Timing
+ * every {@code makeMyMove} per player starts with {@link #enable()}, which
+ * also publishes everything as MXBeans under
+ * {@code io.github.guisso.meleemanager}. {@link #startDump(Path, Duration)}
+ * appends a CSV line at a fixed interval.
+ *
+ * @author Luis Guisso &lt;luis.guisso at ifnmg.edu.br&gt;
+ * @version 0.1
+ * @since 0.1, Oct 18, 2026
+ */
+public final class Metrics {
+
+    private static final Logger logger = Logger.getLogger(Metrics.class.getName());
+    private static final String DOMAIN = "io.github.guisso.meleemanager";
+    private static final Metrics INSTANCE = new Metrics();
+
+    /**
+     * Totals of the tournament runner
+     */
+    public interface TournamentMXBean {
+
+        long getMelees();
+
+        long getTurns();
+
+        double getMeleesPerSecond();
+
+        double getTurnsPerSecond();
+
+        long getMoveP50Nanos();
+
+        long getMoveP99Nanos();
+
+        long getMoveMaxNanos();
+
+        long getMeleeP99Nanos();
+
+        long getIconRenders();
+
+        long getIconRenderP99Nanos();
+
+        Map<String, Long> getJarLoadNanos();
+    }
+
+    /**
+     * Move latency of one player
+     */
+    public interface PlayerMXBean {
+
+        String getName();
+
+        long getMoves();
+
+        double getMeanMoveNanos();
+
+        long getMoveP50Nanos();
+
+        long getMoveP99Nanos();
+
+        long getMoveMaxNanos();
+    }
+
+    /**
+     * Move latency of one player, recorded by its sessions
+     */
+    public static final class PlayerStats
+            implements PlayerMXBean {
+
+        private final String name;
+        private final LatencyHistogram moves;
+
+        private PlayerStats(String name) {
+            this.name = name;
+            this.moves = new LatencyHistogram();
+        }
+
+        /**
+         * @param nanos Duration of one {@code makeMyMove}
+         */
+        public void recordMove(long nanos) {
+            moves.record(nanos);
+        }
+
+        @Override
+        public String getName() {
+            return name;
+        }
+
+        @Override
+        public long getMoves() {
+            return moves.getCount();
+        }
+
+        @Override
+        public double getMeanMoveNanos() {
+            return moves.getMean();
+        }
+
+        @Override
+        public long getMoveP50Nanos() {
+            return moves.getPercentile(50);
+        }
+
+        @Override
+        public long getMoveP99Nanos() {
+            return moves.getPercentile(99);
+        }
+
+        @Override
+        public long getMoveMaxNanos() {
+            return moves.getMax();
+        }
+    }
+
+    private final long start;
+    private final LongAdder melees;
+    private final LongAdder turns;
+    private final LatencyHistogram meleeTimes;
+    private final LatencyHistogram iconRenders;
+    private final Map<String, Long> jarLoads;
+    private final Map<String, PlayerStats> players;
+    private volatile boolean enabled;
+
+    // Guarded by this
+    private ScheduledExecutorService dump;
+    private PrintStream dumpOut;
+    private long[] dumpLast;
+
+    private Metrics() {
+        start = System.nanoTime();
+        melees = new LongAdder();
+        turns = new LongAdder();
+        meleeTimes = new LatencyHistogram();
+        iconRenders = new LatencyHistogram();
+        jarLoads = new ConcurrentHashMap<>();
+        players = new ConcurrentHashMap<>();
+    }
+
+    public static Metrics getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Times every following move and registers the MXBeans
+     */
+    public synchronized void enable() {
+        if (enabled) {
+            return;
+        }
+
+        register("type=Tournament", new TournamentMXBean() {
+            @Override
+            public long getMelees() {
+                return melees.sum();
+            }
+
+            @Override
+            public long getTurns() {
+                return turns.sum();
+            }
+
+            @Override
+            public double getMeleesPerSecond() {
+                return melees.sum() / seconds();
+            }
+
+            @Override
+            public double getTurnsPerSecond() {
+                return turns.sum() / seconds();
+            }
+
+            @Override
+            public long getMoveP50Nanos() {
+                return moves().getPercentile(50);
+            }
+
+            @Override
+            public long getMoveP99Nanos() {
+                return moves().getPercentile(99);
+            }
+
+            @Override
+            public long getMoveMaxNanos() {
+                return moves().getMax();
+            }
+
+            @Override
+            public long getMeleeP99Nanos() {
+                return meleeTimes.getPercentile(99);
+            }
+
+            @Override
+            public long getIconRenders() {
+                return iconRenders.getCount();
+            }
+
+            @Override
+            public long getIconRenderP99Nanos() {
+                return iconRenders.getPercentile(99);
+            }
+
+            @Override
+            public Map<String, Long> getJarLoadNanos() {
+                return new TreeMap<>(jarLoads);
+            }
+        });
+
+        enabled = true;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * @param player A player
+     * @return Where its moves are timed, null while disabled
+     */
+    public PlayerStats player(AbstractPlayer player) {
+        if (!enabled) {
+            return null;
+        }
+        // By name, as several instances may play as the same player
+        return players.computeIfAbsent(Players.name(player), name -> {
+            PlayerStats stats = new PlayerStats(name);
+            register(stats);
+            return stats;
+        });
+    }
+
+    /**
+     * @param turnsPlayed Turns of a finished melee
+     * @param nanos Time from its first to its last turn
+     */
+    public void recordMelee(int turnsPlayed, long nanos) {
+        melees.increment();
+        turns.add(turnsPlayed);
+        meleeTimes.record(nanos);
+    }
+
+    /**
+     * @param nanos Time to render a result image
+     */
+    public void recordIconRender(long nanos) {
+        iconRenders.record(nanos);
+    }
+
+    /**
+     * @param jar Jar file name
+     * @param nanos Time to scan and load its players
+     */
+    public void recordJarLoad(String jar, long nanos) {
+        jarLoads.put(jar, nanos);
+    }
+
+    /**
+     * Appends the totals to a CSV file at a fixed interval, and once more on
+     * {@link #stopDump()}
+     *
+     * @param file Destination, null for stderr
+     * @param interval Time between lines
+     * @throws IOException If the file can not be created
+     */
+    public synchronized void startDump(Path file, Duration interval)
+            throws IOException {
+        if (dump != null) {
+            throw new IllegalStateException("Already dumping");
+        }
+
+        PrintStream out = file == null
+                ? System.err
+                : new PrintStream(Files.newOutputStream(file), true);
+        out.println("seconds,melees,turns,melees_per_s,turns_per_s,"
+                + "move_p50_ns,move_p99_ns,move_max_ns,melee_p99_ns,"
+                + "icon_renders,icon_p99_ns");
+
+        dump = Executors.newSingleThreadScheduledExecutor(task -> {
+            Thread thread = new Thread(task, "metrics-dump");
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        long[] last = {System.nanoTime(), melees.sum(), turns.sum()};
+        long period = interval.toNanos();
+        dump.scheduleAtFixedRate(() -> line(out, last),
+                period, period, TimeUnit.NANOSECONDS);
+        dumpOut = out;
+        dumpLast = last;
+    }
+
+    /**
+     * Writes the last line and stops the dump
+     */
+    public synchronized void stopDump() {
+        if (dump == null) {
+            return;
+        }
+
+        dump.shutdown();
+        try {
+            dump.awaitTermination(1, TimeUnit.MINUTES);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+        line(dumpOut, dumpLast);
+        if (dumpOut != System.err) {
+            dumpOut.close();
+        }
+        dump = null;
+    }
+
+    /**
+     * Writes the move latency of every player, slowest first
+     *
+     * @param out Destination
+     */
+    public void writePlayers(PrintStream out) {
+        List<PlayerStats> stats = new ArrayList<>(players.values());
+        stats.sort(Comparator.comparingLong(PlayerStats::getMoveP99Nanos)
+                .reversed()
+                .thenComparing(PlayerStats::getName));
+
+        out.println("player,moves,mean_ns,p50_ns,p99_ns,max_ns");
+        for (PlayerStats player : stats) {
+            out.printf("\"%s\",%d,%.0f,%d,%d,%d%n",
+                    player.getName().replace("\"", "\"\""),
+                    player.getMoves(), player.getMeanMoveNanos(),
+                    player.getMoveP50Nanos(), player.getMoveP99Nanos(),
+                    player.getMoveMaxNanos());
+        }
+        out.flush();
+    }
+
+    /**
+     * One CSV line, with rates over the time since the previous one
+     */
+    private void line(PrintStream out, long[] last) {
+        long now = System.nanoTime();
+        long meleeCount = melees.sum();
+        long turnCount = turns.sum();
+        double elapsed = Math.max(1, now - last[0]) / 1e9;
+        LatencyHistogram moves = moves();
+
+        out.printf("%.1f,%d,%d,%.1f,%.1f,%d,%d,%d,%d,%d,%d%n",
+                (now - start) / 1e9, meleeCount, turnCount,
+                (meleeCount - last[1]) / elapsed,
+                (turnCount - last[2]) / elapsed,
+                moves.getPercentile(50), moves.getPercentile(99),
+                moves.getMax(), meleeTimes.getPercentile(99),
+                iconRenders.getCount(), iconRenders.getPercentile(99));
+
+        last[0] = now;
+        last[1] = meleeCount;
+        last[2] = turnCount;
+    }
+
+    /**
+     * Move latency of all players together
+     */
+    private LatencyHistogram moves() {
+        LatencyHistogram moves = new LatencyHistogram();
+        for (PlayerStats stats : players.values()) {
+            moves.add(stats.moves);
+        }
+        return moves;
+    }
+
+    private double seconds() {
+        return Math.max(1, System.nanoTime() - start) / 1e9;
+    }
+
+    private static void register(PlayerStats stats) {
+        register("type=Player,name=" + ObjectName.quote(stats.getName()), stats);
+    }
+
+    private static void register(String properties, Object mxBean) {
+        try {
+            MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+            ObjectName name = new ObjectName(DOMAIN + ":" + properties);
+            if (!server.isRegistered(name)) {
+                server.registerMBean(mxBean, name);
+            }
+        } catch (JMException ex) {
+            logger.log(Level.WARNING, "MXBean not registered: " + properties, ex);
+        }
+    }
+}
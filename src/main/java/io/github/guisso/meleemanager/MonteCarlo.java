@@ -0,0 +1,226 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2025 Luis Guisso &lt;luis.guisso at ifnmg.edu.br&gt;.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package io.github.guisso.meleemanager;
+
+import io.github.guisso.jankenpon.AbstractPlayer;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+
+/**
+ * Plays many independent replications of a shuffled round-robin tournament
+ * and summarizes the scores and ranks of each player.
+ * <p>
+ * Every replication gets its own seed, drawn from the base seed, and its own
+ * player instances, made by a {@link PlayerFactory}, so no
+ * state leaks between replications. A replication plays its melees one after
+ * the other on a single thread and replications run in parallel, sharing
+ * nothing until they are summarized.
+ *
+ * @author Luis Guisso &lt;luis.guisso at ifnmg.edu.br&gt;
+ * @version 0.1
+ * @since 0.1, Oct 18, 2026
+ */
+public final class MonteCarlo {
+
+    // Normal quantile of a two sided 95% interval
+    private static final double Z95 = 1.959964;
+
+    /**
+     * Scores and ranks of a player over all the replications
+     *
+     * @param player The player, as given
+     * @param meanScore Mean score
+     * @param scoreLow Lower bound of the 95% interval of the mean score
+     * @param scoreHigh Upper bound of the 95% interval of the mean score
+     * @param meanRank Mean rank, 1 being the first
+     * @param rankLow 2.5th percentile of the rank
+     * @param rankHigh 97.5th percentile of the rank
+     * @param rankCounts Replications finished at each rank, index 0 is rank 1.
+     * Not a copy.
+     */
+    public record Summary(AbstractPlayer player, double meanScore,
+            double scoreLow, double scoreHigh, double meanRank,
+            int rankLow, int rankHigh, long[] rankCounts) {
+
+    }
+
+    private final List<AbstractPlayer> players;
+    private final int replications;
+    private final long seed;
+    private final int parallelism;
+
+    /**
+     * @param players All players, with no-argument constructors
+     * @param replications Number of tournaments
+     * @param seed Base seed, the same for the same summaries
+     * @param parallelism Number of replications played at a time
+     */
+    public MonteCarlo(List<AbstractPlayer> players, int replications,
+            long seed, int parallelism) {
+        if (replications < 1 || parallelism < 1) {
+            throw new IllegalArgumentException(
+                    "Replications and parallelism must be positive");
+        }
+
+        this.players = List.copyOf(players);
+        this.replications = replications;
+        this.seed = seed;
+        this.parallelism = parallelism;
+    }
+
+    /**
+     * Plays all the replications
+     *
+     * @return Summary of every player, by mean rank
+     * @throws InterruptedException If interrupted while waiting the workers
+     * @throws ExecutionException If a player can not be created or fails to
+     * make a move
+     */
+    public List<Summary> run()
+            throws InterruptedException, ExecutionException {
+
+        SplittableRandom random = new SplittableRandom(seed);
+        List<Callable<long[]>> tasks = new ArrayList<>(replications);
+        for (int i = 0; i < replications; i++) {
+            long replicationSeed = random.nextLong();
+            tasks.add(() -> replicate(replicationSeed));
+        }
+
+        int n = players.size();
+        double[] sum = new double[n];
+        double[] sumSquares = new double[n];
+        long[][] rankCounts = new long[n][n];
+
+        ForkJoinPool pool = new ForkJoinPool(parallelism);
+        try {
+            for (Future<long[]> future : pool.invokeAll(tasks)) {
+                long[] scores = future.get();
+                int[] ranks = ranks(scores);
+                for (int player = 0; player < n; player++) {
+                    sum[player] += scores[player];
+                    sumSquares[player] += (double) scores[player] * scores[player];
+                    rankCounts[player][ranks[player]]++;
+                }
+            }
+        } finally {
+            pool.shutdown();
+        }
+
+        List<Summary> summaries = new ArrayList<>(n);
+        for (int player = 0; player < n; player++) {
+            double mean = sum[player] / replications;
+            double variance = replications < 2 ? 0
+                    : Math.max(0, (sumSquares[player] - mean * sum[player])
+                            / (replications - 1));
+            double margin = Z95 * Math.sqrt(variance / replications);
+
+            double rankSum = 0;
+            for (int rank = 0; rank < n; rank++) {
+                rankSum += (rank + 1.0) * rankCounts[player][rank];
+            }
+
+            summaries.add(new Summary(players.get(player), mean,
+                    mean - margin, mean + margin, rankSum / replications,
+                    percentile(rankCounts[player], 0.025),
+                    percentile(rankCounts[player], 0.975),
+                    rankCounts[player]));
+        }
+
+        summaries.sort(Comparator.comparingDouble(Summary::meanRank)
+                .thenComparing(s -> s.player().getDeveloperName()));
+        return summaries;
+    }
+
+    /**
+     * Plays one tournament with new player instances
+     *
+     * @return Score of each player, in the order of the players
+     */
+    private long[] replicate(long replicationSeed) {
+
+        PlayerFactory factory = new PlayerFactory();
+        List<AbstractPlayer> instances = new ArrayList<>(players.size());
+        Map<AbstractPlayer, Integer> indexes = new IdentityHashMap<>();
+        for (AbstractPlayer player : players) {
+            AbstractPlayer instance = factory.newInstance(player);
+            indexes.put(instance, instances.size());
+            instances.add(instance);
+        }
+
+        long[] scores = new long[players.size()];
+        Pairings pairings = new Pairings(instances, replicationSeed);
+        for (AbstractPlayer[] pair : pairings) {
+            MeleeSession session = new MeleeSession(pair[0], pair[1]);
+            session.playAll();
+            scores[indexes.get(pair[0])] += session.getPlayerAScore();
+            scores[indexes.get(pair[1])] += session.getPlayerBScore();
+        }
+        return scores;
+    }
+
+    /**
+     * Ranks scores as {@link Standing#RANKING} does
+     *
+     * @return Rank of each player, 0 being the first
+     */
+    private int[] ranks(long[] scores) {
+        Map<AbstractPlayer, Long> byPlayer = new IdentityHashMap<>();
+        Map<AbstractPlayer, Integer> indexes = new IdentityHashMap<>();
+        for (int player = 0; player < scores.length; player++) {
+            byPlayer.put(players.get(player), scores[player]);
+            indexes.put(players.get(player), player);
+        }
+
+        int[] ranks = new int[scores.length];
+        int rank = 0;
+        for (Standing standing : Standing.rank(players, byPlayer)) {
+            ranks[indexes.get(standing.player())] = rank++;
+        }
+        return ranks;
+    }
+
+    /**
+     * @return Smallest rank, from 1, reached by the given share of the
+     * replications
+     */
+    private int percentile(long[] rankCounts, double share) {
+        double target = share * replications;
+        long count = 0;
+        for (int rank = 0; rank < rankCounts.length; rank++) {
+            count += rankCounts[rank];
+            if (count > target) {
+                return rank + 1;
+            }
+        }
+        return rankCounts.length;
+    }
+}
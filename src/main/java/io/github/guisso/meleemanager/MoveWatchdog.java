@@ -0,0 +1,492 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2025 Luis Guisso &lt;luis.guisso at ifnmg.edu.br&gt;.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package io.github.guisso.meleemanager;
+
+import io.github.guisso.jankenpon.AbstractPlayer;
+import io.github.guisso.jankenpon.Move;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Runs players' moves on worker threads with a deadline per move and a CPU
+ * time budget per melee.
+ * <p>
+ * A move that misses its deadline, throws, or is asked after the player ran
+ * out of budget is forfeited: {@link Move#NONE} is played instead and the
+ * forfeit is counted per player and per reason; only the last
+ * {@value #RECENT_FORFEITS} forfeits are kept. A player whose move is still running after its
+ * deadline forfeits every following move, in this melee and in any other,
+ * until it returns; so a player stuck in a loop holds at most one thread.
+ * <p>
+ * Workers are daemon platform threads, since CPU time is not available for
+ * virtual threads, and at most {@code maxWorkers} of them run at once. A
+ * move asked while all of them are busy is forfeited as stalled; no move is
+ * ever queued behind another.
+ * <p>
+ * With {@link #trackAllocations(long)} the bytes allocated by each move are
+ * counted on its worker thread and summed per player. A player that
+ * allocates more than the budget in one melee is disqualified: it forfeits
+ * every following move of the tournament.
+ *
+ * @author Luis Guisso &lt;luis.guisso at ifnmg.edu.br&gt;
+ * @version 0.1
+ * @since 0.1, Oct 18, 2026
+ */
+public final class MoveWatchdog
+        implements AutoCloseable {
+
+    /**
+     * Why a move was forfeited
+     */
+    public enum Reason {
+        TIMEOUT, STALLED, CPU_BUDGET, ALLOCATION_BUDGET, ERROR
+    }
+
+    /**
+     * A forfeited move
+     *
+     * @param player The player
+     * @param turn Turn of the melee, starting at 0
+     * @param reason Why it was forfeited
+     */
+    public record Forfeit(AbstractPlayer player, int turn, Reason reason) {
+
+    }
+
+    /**
+     * Memory allocated by a player's moves
+     *
+     * @param player The player
+     * @param moves Moves measured
+     * @param bytes Bytes allocated by all the moves
+     * @param maxMoveBytes Bytes allocated by the most expensive move
+     * @param disqualified Whether the player exceeded the budget
+     */
+    public record Allocation(AbstractPlayer player, long moves, long bytes,
+            long maxMoveBytes, boolean disqualified) {
+
+        /**
+         * @return Mean bytes allocated per move
+         */
+        public long bytesPerMove() {
+            return moves == 0 ? 0 : bytes / moves;
+        }
+    }
+
+    private static final Logger logger
+            = Logger.getLogger(MoveWatchdog.class.getName());
+
+    private static final ThreadMXBean THREADS
+            = ManagementFactory.getThreadMXBean();
+
+    /**
+     * Forfeits kept by {@link #getRecentForfeits()}
+     */
+    public static final int RECENT_FORFEITS = 256;
+
+    private static final int RUNNING = 0;
+    private static final int DONE = 1;
+    private static final int ABANDONED = 2;
+
+    private final long moveTimeoutNanos;
+    private final long cpuBudgetNanos;
+    private final ExecutorService executor;
+    private final Map<AbstractPlayer, LongAdder> forfeitsByPlayer;
+    private final Map<Reason, LongAdder> forfeitsByReason;
+    // Ring of the last forfeits, the next slot at forfeitCount % length
+    private final AtomicReferenceArray<Forfeit> recentForfeits;
+    private final AtomicLong forfeitCount;
+    private final Map<AbstractPlayer, Account> accounts;
+    // Moves still running after their deadline, per player
+    private final Map<AbstractPlayer, AtomicInteger> stalled;
+    private volatile boolean trackAllocations;
+    private volatile long allocationBudget;
+
+    /**
+     * @param moveTimeout Deadline of each move
+     * @param cpuBudget CPU time of a player per melee, null for unlimited
+     */
+    public MoveWatchdog(Duration moveTimeout, Duration cpuBudget) {
+        this(moveTimeout, cpuBudget,
+                Math.max(64, 4 * Runtime.getRuntime().availableProcessors()));
+    }
+
+    /**
+     * @param moveTimeout Deadline of each move
+     * @param cpuBudget CPU time of a player per melee, null for unlimited
+     * @param maxWorkers Moves running at once, stalled ones included
+     */
+    public MoveWatchdog(Duration moveTimeout, Duration cpuBudget,
+            int maxWorkers) {
+        this.moveTimeoutNanos = moveTimeout.toNanos();
+        this.cpuBudgetNanos = cpuBudget == null
+                ? Long.MAX_VALUE
+                : cpuBudget.toNanos();
+
+        AtomicInteger count = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(0, maxWorkers,
+                60, TimeUnit.SECONDS, new SynchronousQueue<>(), task -> {
+            Thread thread = new Thread(task,
+                    "move-worker-" + count.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.forfeitsByPlayer = new ConcurrentHashMap<>();
+        this.forfeitsByReason = new EnumMap<>(Reason.class);
+        for (Reason reason : Reason.values()) {
+            forfeitsByReason.put(reason, new LongAdder());
+        }
+        this.recentForfeits = new AtomicReferenceArray<>(RECENT_FORFEITS);
+        this.forfeitCount = new AtomicLong();
+        this.accounts = new ConcurrentHashMap<>();
+        this.stalled = new ConcurrentHashMap<>();
+        this.allocationBudget = Long.MAX_VALUE;
+
+        if (THREADS.isThreadCpuTimeSupported()
+                && !THREADS.isThreadCpuTimeEnabled()) {
+            THREADS.setThreadCpuTimeEnabled(true);
+        }
+    }
+
+    /**
+     * Counts the bytes allocated by every move, from now on
+     *
+     * @param budget Bytes a player may allocate in one melee before being
+     * disqualified, 0 for unlimited
+     * @throws UnsupportedOperationException If the JVM does not count
+     * allocations per thread
+     */
+    public void trackAllocations(long budget) {
+        if (!(THREADS instanceof com.sun.management.ThreadMXBean threads)
+                || !threads.isThreadAllocatedMemorySupported()) {
+            throw new UnsupportedOperationException(
+                    "Thread allocation counters are not supported");
+        }
+        if (!threads.isThreadAllocatedMemoryEnabled()) {
+            threads.setThreadAllocatedMemoryEnabled(true);
+        }
+
+        allocationBudget = budget > 0 ? budget : Long.MAX_VALUE;
+        trackAllocations = true;
+    }
+
+    /**
+     * @return Allocations of every player measured so far, most bytes first
+     */
+    public List<Allocation> getAllocations() {
+        List<Allocation> allocations = new ArrayList<>();
+        accounts.forEach((player, account) -> allocations.add(
+                new Allocation(player, account.moves.sum(),
+                        account.bytes.sum(), account.maxMoveBytes.get(),
+                        account.disqualified)));
+        allocations.sort(Comparator.comparingLong(Allocation::bytes).reversed());
+        return allocations;
+    }
+
+    /**
+     * Guards one player during one melee
+     *
+     * @param player The player
+     * @return A new guard
+     */
+    public Guard guard(AbstractPlayer player) {
+        return new Guard(player, player);
+    }
+
+    /**
+     * Guards an instance made by a {@link PlayerFactory} during one melee
+     *
+     * @param player The player, in forfeits and allocations
+     * @param instance The instance that makes the moves
+     * @return A new guard
+     */
+    public Guard guard(AbstractPlayer player, AbstractPlayer instance) {
+        return new Guard(player, instance);
+    }
+
+    /**
+     * @return Moves forfeited so far
+     */
+    public long getForfeitCount() {
+        return forfeitCount.get();
+    }
+
+    /**
+     * @return Moves forfeited so far by each player that forfeited any
+     */
+    public Map<AbstractPlayer, Long> getForfeitsByPlayer() {
+        Map<AbstractPlayer, Long> counts = new HashMap<>();
+        forfeitsByPlayer.forEach((player, count) -> {
+            long sum = count.sum();
+            if (sum > 0) {
+                counts.put(player, sum);
+            }
+        });
+        return counts;
+    }
+
+    /**
+     * @return Moves forfeited so far for each reason
+     */
+    public Map<Reason, Long> getForfeitsByReason() {
+        Map<Reason, Long> counts = new EnumMap<>(Reason.class);
+        forfeitsByReason.forEach((reason, count) ->
+                counts.put(reason, count.sum()));
+        return counts;
+    }
+
+    /**
+     * Forfeits recorded while this runs may be missed or appear twice
+     *
+     * @return Up to {@value #RECENT_FORFEITS} last forfeits, oldest first
+     */
+    public List<Forfeit> getRecentForfeits() {
+        long end = forfeitCount.get();
+        long first = Math.max(0, end - RECENT_FORFEITS);
+        List<Forfeit> recent = new ArrayList<>((int) (end - first));
+        for (long i = first; i < end; i++) {
+            Forfeit forfeit = recentForfeits.get((int) (i % RECENT_FORFEITS));
+            if (forfeit != null) {
+                recent.add(forfeit);
+            }
+        }
+        return recent;
+    }
+
+    /**
+     * Stops the workers, interrupting stuck players
+     */
+    @Override
+    public void close() {
+        executor.shutdownNow();
+    }
+
+    /**
+     * Moves of a player in a single melee
+     */
+    public final class Guard {
+
+        private final AbstractPlayer player;
+        private final AbstractPlayer instance;
+        private final AtomicLong cpuNanos;
+        private final AtomicLong allocatedBytes;
+        private final Account account;
+        private final AtomicInteger stalledMoves;
+        private final LongAdder playerForfeits;
+        private int forfeitCount;
+
+        private Guard(AbstractPlayer player, AbstractPlayer instance) {
+            this.player = player;
+            this.instance = instance;
+            this.cpuNanos = new AtomicLong();
+            this.allocatedBytes = new AtomicLong();
+            this.account = trackAllocations
+                    ? accounts.computeIfAbsent(player, p -> new Account())
+                    : null;
+            this.stalledMoves = stalled.computeIfAbsent(player,
+                    p -> new AtomicInteger());
+            this.playerForfeits = forfeitsByPlayer.computeIfAbsent(player,
+                    p -> new LongAdder());
+        }
+
+        /**
+         * Asks the player for a move within the deadline
+         *
+         * @param opponentPreviousMove Opponent's previous move
+         * @param turn Current turn, for the forfeit record
+         * @return The move, or {@link Move#NONE} if forfeited
+         */
+        public Move move(Move opponentPreviousMove, int turn) {
+            if (stalledMoves.get() > 0) {
+                return forfeit(turn, Reason.STALLED, null);
+            }
+
+            if (cpuNanos.get() >= cpuBudgetNanos) {
+                return forfeit(turn, Reason.CPU_BUDGET, null);
+            }
+
+            if (account != null && account.disqualified) {
+                return forfeit(turn, Reason.ALLOCATION_BUDGET, null);
+            }
+
+            // RUNNING, then DONE by the worker or ABANDONED by the deadline
+            AtomicInteger state = new AtomicInteger(RUNNING);
+            Future<Move> pending;
+            try {
+                pending = executor.submit(() -> {
+                    try {
+                        return account == null
+                                ? timed(opponentPreviousMove)
+                                : measured(opponentPreviousMove);
+                    } finally {
+                        if (!state.compareAndSet(RUNNING, DONE)) {
+                            stalledMoves.decrementAndGet();
+                        }
+                    }
+                });
+            } catch (RejectedExecutionException ex) {
+                return forfeit(turn, Reason.STALLED, ex);
+            }
+
+            try {
+                Move move = pending.get(moveTimeoutNanos, TimeUnit.NANOSECONDS);
+                return move == null ? Move.NONE : move;
+            } catch (TimeoutException ex) {
+                abandon(pending, state);
+                return forfeit(turn, Reason.TIMEOUT, null);
+            } catch (ExecutionException ex) {
+                return forfeit(turn, Reason.ERROR, ex.getCause());
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                abandon(pending, state);
+                return forfeit(turn, Reason.TIMEOUT, ex);
+            }
+        }
+
+        /**
+         * Interrupts a late move; until it returns, the player stalls
+         */
+        private void abandon(Future<Move> pending, AtomicInteger state) {
+            stalledMoves.incrementAndGet();
+            if (!state.compareAndSet(RUNNING, ABANDONED)) {
+                // Returned meanwhile
+                stalledMoves.decrementAndGet();
+            }
+            pending.cancel(true);
+        }
+
+        private Move timed(Move opponentPreviousMove) {
+            long start = THREADS.getCurrentThreadCpuTime();
+            try {
+                return instance.makeMyMove(opponentPreviousMove);
+            } finally {
+                cpuNanos.addAndGet(THREADS.getCurrentThreadCpuTime() - start);
+            }
+        }
+
+        private Move measured(Move opponentPreviousMove) {
+            com.sun.management.ThreadMXBean threads
+                    = (com.sun.management.ThreadMXBean) THREADS;
+            long start = threads.getCurrentThreadAllocatedBytes();
+            try {
+                return timed(opponentPreviousMove);
+            } finally {
+                long bytes = threads.getCurrentThreadAllocatedBytes() - start;
+                allocatedBytes.addAndGet(bytes);
+                account.moves.increment();
+                account.bytes.add(bytes);
+                account.maxMoveBytes.accumulate(bytes);
+                if (allocatedBytes.get() >= allocationBudget) {
+                    disqualify();
+                }
+            }
+        }
+
+        private void disqualify() {
+            synchronized (account) {
+                if (account.disqualified) {
+                    return;
+                }
+                account.disqualified = true;
+            }
+            logger.log(Level.WARNING,
+                    () -> player.getDeveloperName() + " disqualified: "
+                    + allocatedBytes.get() + " bytes allocated in a melee");
+        }
+
+        /**
+         * @return CPU time used by the player so far
+         */
+        public long getCpuNanos() {
+            return cpuNanos.get();
+        }
+
+        /**
+         * @return Bytes allocated by the player so far, 0 unless
+         * allocations are tracked
+         */
+        public long getAllocatedBytes() {
+            return allocatedBytes.get();
+        }
+
+        /**
+         * @return Moves forfeited by the player so far
+         */
+        public int getForfeitCount() {
+            return forfeitCount;
+        }
+
+        private Move forfeit(int turn, Reason reason, Throwable cause) {
+            forfeitCount++;
+            playerForfeits.increment();
+            forfeitsByReason.get(reason).increment();
+            long slot = MoveWatchdog.this.forfeitCount.getAndIncrement();
+            recentForfeits.set((int) (slot % RECENT_FORFEITS),
+                    new Forfeit(player, turn, reason));
+            // Stalled and out of budget players repeat every turn
+            Level level = reason == Reason.TIMEOUT || reason == Reason.ERROR
+                    ? Level.WARNING
+                    : Level.FINE;
+            logger.log(level, cause,
+                    () -> player.getDeveloperName() + " forfeits turn "
+                    + turn + ": " + reason);
+            return Move.NONE;
+        }
+    }
+
+    /**
+     * Allocations of a player over all its melees
+     */
+    private static final class Account {
+
+        private final LongAdder moves = new LongAdder();
+        private final LongAdder bytes = new LongAdder();
+        private final LongAccumulator maxMoveBytes
+                = new LongAccumulator(Math::max, 0);
+        private volatile boolean disqualified;
+    }
+}
@@ -0,0 +1,357 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2025 Luis Guisso &lt;luis.guisso at ifnmg.edu.br&gt;.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package io.github.guisso.meleemanager;
+
+import io.github.guisso.jankenpon.AbstractPlayer;
+import io.github.guisso.jankenpon.Move;
+import io.github.guisso.jankenpon.Result;
+
+/**
+ * Outcome and points of every pair of moves, including the consecutive wins
+ * bonus.
+ * <p>
+ * The rules are owned by {@link Move#versus(Move, AbstractPlayer,
+ * AbstractPlayer)}, which keeps the streak in global state. They are learned
+ * once by playing {@code versus} between two probe players, so sessions can
+ * score their turns without touching that state. Whole melees recorded as
+ * move ordinals are scored in one pass over flat tables indexed by
+ * {@code a << 2 | b}, and {@link #versus(byte[], byte[], int)} replays them
+ * through the library to check that both agree.
+ *
+ * @author Luis Guisso &lt;luis.guisso at ifnmg.edu.br&gt;
+ * @version 0.1
+ * @since 0.1, Oct 18, 2026
+ */
+public final class OutcomeTable {
+
+    public static final int NO_WINNER = 0;
+    public static final int PLAYER_A = 1;
+    public static final int PLAYER_B = 2;
+
+    private static final Move[] MOVES = Move.values();
+
+    private final Result[][] results;
+    private final int[][] winners;
+    private final int[][] playerAPoints;
+    private final int[][] playerBPoints;
+    private final boolean[][] breaksStreak;
+
+    // Extra points of the n-th consecutive win, index 1 is always 0
+    private final int[] playerAStreakBonus;
+    private final int[] playerBStreakBonus;
+    private final boolean opponentWinBreaksStreak;
+
+    // The same tables flattened for the one pass scoring
+    private final byte[] flatWinners;
+    private final int[] flatPlayerAPoints;
+    private final int[] flatPlayerBPoints;
+    private final boolean[] flatBreaksStreak;
+
+    private static volatile OutcomeTable instance;
+
+    private OutcomeTable() {
+        int moves = MOVES.length;
+        results = new Result[moves][moves];
+        winners = new int[moves][moves];
+        playerAPoints = new int[moves][moves];
+        playerBPoints = new int[moves][moves];
+        breaksStreak = new boolean[moves][moves];
+        playerAStreakBonus = new int[JanKenPonManager.TURNS + 1];
+        playerBStreakBonus = new int[JanKenPonManager.TURNS + 1];
+
+        Probe playerA = new Probe();
+        Probe playerB = new Probe();
+
+        // Single turns after a reset
+        for (Move a : MOVES) {
+            for (Move b : MOVES) {
+                Move.resetConsecutiveWins();
+                int playerAScore = playerA.getTotaScore();
+                int playerBScore = playerB.getTotaScore();
+                Result result = a.versus(b, playerA, playerB);
+                int[] points = {
+                    playerA.getTotaScore() - playerAScore,
+                    playerB.getTotaScore() - playerBScore};
+
+                results[a.ordinal()][b.ordinal()]
+                        = result == null ? Result.NONE : result;
+                playerAPoints[a.ordinal()][b.ordinal()] = points[0];
+                playerBPoints[a.ordinal()][b.ordinal()] = points[1];
+                winners[a.ordinal()][b.ordinal()]
+                        = points[0] > points[1] ? PLAYER_A
+                        : points[1] > points[0] ? PLAYER_B
+                        : NO_WINNER;
+            }
+        }
+
+        Move[] playerAWin = find(PLAYER_A);
+        Move[] playerBWin = find(PLAYER_B);
+
+        // Consecutive wins
+        streak(playerAWin, playerA, playerB, 0, playerAStreakBonus);
+        streak(playerBWin, playerA, playerB, 1, playerBStreakBonus);
+
+        // Streak broken by a turn without winner
+        for (Move a : MOVES) {
+            for (Move b : MOVES) {
+                if (winners[a.ordinal()][b.ordinal()] == NO_WINNER) {
+                    Move.resetConsecutiveWins();
+                    turn(playerAWin, playerA, playerB);
+                    turn(new Move[]{a, b}, playerA, playerB);
+                    breaksStreak[a.ordinal()][b.ordinal()]
+                            = turn(playerAWin, playerA, playerB)[0]
+                            == playerAPoints[playerAWin[0].ordinal()][playerAWin[1].ordinal()];
+                }
+            }
+        }
+
+        // Streak broken by the opponent
+        Move.resetConsecutiveWins();
+        turn(playerAWin, playerA, playerB);
+        turn(playerBWin, playerA, playerB);
+        opponentWinBreaksStreak
+                = turn(playerAWin, playerA, playerB)[0]
+                == playerAPoints[playerAWin[0].ordinal()][playerAWin[1].ordinal()];
+
+        Move.resetConsecutiveWins();
+
+        flatWinners = new byte[16];
+        flatPlayerAPoints = new int[16];
+        flatPlayerBPoints = new int[16];
+        flatBreaksStreak = new boolean[16];
+        for (int a = 0; a < moves; a++) {
+            for (int b = 0; b < moves; b++) {
+                flatWinners[a << 2 | b] = (byte) winners[a][b];
+                flatPlayerAPoints[a << 2 | b] = playerAPoints[a][b];
+                flatPlayerBPoints[a << 2 | b] = playerBPoints[a][b];
+                flatBreaksStreak[a << 2 | b] = breaksStreak[a][b];
+            }
+        }
+    }
+
+    /**
+     * Rules shared by all sessions, learned on first use
+     *
+     * @return The outcome table
+     */
+    public static OutcomeTable getInstance() {
+        OutcomeTable table = instance;
+        if (table == null) {
+            // Probing uses the same global state as JanKenPonManager
+            synchronized (JanKenPonManager.class) {
+                table = instance;
+                if (table == null) {
+                    table = new OutcomeTable();
+                    instance = table;
+                }
+            }
+        }
+        return table;
+    }
+
+    /**
+     * @param a Player A move
+     * @param b Player B move
+     * @return The result image of the turn
+     */
+    public Result result(Move a, Move b) {
+        return results[a.ordinal()][b.ordinal()];
+    }
+
+    /**
+     * @param a Player A move
+     * @param b Player B move
+     * @return {@link #NO_WINNER}, {@link #PLAYER_A} or {@link #PLAYER_B}
+     */
+    public int winner(Move a, Move b) {
+        return winners[a.ordinal()][b.ordinal()];
+    }
+
+    /**
+     * Updates a streak state after one turn and tells the points earned
+     *
+     * @param a Player A move
+     * @param b Player B move
+     * @param streak Consecutive wins of player A and player B, updated
+     * @param points Points of player A and player B, overwritten
+     */
+    public void score(Move a, Move b, int[] streak, int[] points) {
+        int winner = winners[a.ordinal()][b.ordinal()];
+        points[0] = playerAPoints[a.ordinal()][b.ordinal()];
+        points[1] = playerBPoints[a.ordinal()][b.ordinal()];
+
+        switch (winner) {
+            case PLAYER_A -> {
+                streak[0]++;
+                if (opponentWinBreaksStreak) {
+                    streak[1] = 0;
+                }
+                points[0] += playerAStreakBonus[Math.min(streak[0], playerAStreakBonus.length - 1)];
+            }
+            case PLAYER_B -> {
+                streak[1]++;
+                if (opponentWinBreaksStreak) {
+                    streak[0] = 0;
+                }
+                points[1] += playerBStreakBonus[Math.min(streak[1], playerBStreakBonus.length - 1)];
+            }
+            default -> {
+                if (breaksStreak[a.ordinal()][b.ordinal()]) {
+                    streak[0] = 0;
+                    streak[1] = 0;
+                }
+            }
+        }
+    }
+
+    /**
+     * Scores a whole melee in one pass, as {@link #score(Move, Move, int[],
+     * int[])} would turn by turn from a fresh streak
+     *
+     * @param playerAMoves Move ordinals of player A, one per turn
+     * @param playerBMoves Move ordinals of player B, one per turn
+     * @param turns Turns played
+     * @param scores Player A and player B scores, overwritten
+     */
+    public void score(byte[] playerAMoves, byte[] playerBMoves, int turns,
+            int[] scores) {
+        int lastBonus = playerAStreakBonus.length - 1;
+        int playerAStreak = 0;
+        int playerBStreak = 0;
+        int playerAScore = 0;
+        int playerBScore = 0;
+
+        for (int turn = 0; turn < turns; turn++) {
+            int moves = playerAMoves[turn] << 2 | playerBMoves[turn];
+            playerAScore += flatPlayerAPoints[moves];
+            playerBScore += flatPlayerBPoints[moves];
+
+            switch (flatWinners[moves]) {
+                case PLAYER_A -> {
+                    playerAStreak++;
+                    if (opponentWinBreaksStreak) {
+                        playerBStreak = 0;
+                    }
+                    playerAScore += playerAStreakBonus[Math.min(playerAStreak, lastBonus)];
+                }
+                case PLAYER_B -> {
+                    playerBStreak++;
+                    if (opponentWinBreaksStreak) {
+                        playerAStreak = 0;
+                    }
+                    playerBScore += playerBStreakBonus[Math.min(playerBStreak, lastBonus)];
+                }
+                default -> {
+                    if (flatBreaksStreak[moves]) {
+                        playerAStreak = 0;
+                        playerBStreak = 0;
+                    }
+                }
+            }
+        }
+
+        scores[0] = playerAScore;
+        scores[1] = playerBScore;
+    }
+
+    /**
+     * Scores a whole melee through {@link Move#versus(Move, AbstractPlayer,
+     * AbstractPlayer)}, the reference for the tables. Slow, and it resets the
+     * library's consecutive wins.
+     *
+     * @param playerAMoves Move ordinals of player A, one per turn
+     * @param playerBMoves Move ordinals of player B, one per turn
+     * @param turns Turns played
+     * @return Player A and player B scores
+     */
+    public static int[] versus(byte[] playerAMoves, byte[] playerBMoves,
+            int turns) {
+        Probe playerA = new Probe();
+        Probe playerB = new Probe();
+
+        synchronized (JanKenPonManager.class) {
+            Move.resetConsecutiveWins();
+            for (int turn = 0; turn < turns; turn++) {
+                MOVES[playerAMoves[turn]].versus(
+                        MOVES[playerBMoves[turn]], playerA, playerB);
+            }
+            Move.resetConsecutiveWins();
+        }
+
+        return new int[]{playerA.getTotaScore(), playerB.getTotaScore()};
+    }
+
+    private Move[] find(int winner) {
+        for (Move a : MOVES) {
+            for (Move b : MOVES) {
+                if (winners[a.ordinal()][b.ordinal()] == winner) {
+                    return new Move[]{a, b};
+                }
+            }
+        }
+        throw new IllegalStateException("No move wins for player " + winner);
+    }
+
+    private static void streak(Move[] win, Probe playerA, Probe playerB,
+            int side, int[] bonus) {
+        Move.resetConsecutiveWins();
+        int first = 0;
+        for (int wins = 1; wins < bonus.length; wins++) {
+            int points = turn(win, playerA, playerB)[side];
+            if (wins == 1) {
+                first = points;
+            }
+            bonus[wins] = points - first;
+        }
+    }
+
+    /**
+     * Plays one turn through {@code versus} and measures the points
+     */
+    private static int[] turn(Move[] moves, Probe playerA, Probe playerB) {
+        int playerAScore = playerA.getTotaScore();
+        int playerBScore = playerB.getTotaScore();
+        moves[0].versus(moves[1], playerA, playerB);
+        return new int[]{
+            playerA.getTotaScore() - playerAScore,
+            playerB.getTotaScore() - playerBScore};
+    }
+
+    /**
+     * Player used only to measure points
+     */
+    private static final class Probe
+            extends AbstractPlayer {
+
+        @Override
+        public String getDeveloperName() {
+            return "Probe";
+        }
+
+        @Override
+        public Move makeMyMove(Move opponentPreviousMove) {
+            return Move.NONE;
+        }
+    }
+}
@@ -0,0 +1,278 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2025 Luis Guisso &lt;luis.guisso at ifnmg.edu.br&gt;.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package io.github.guisso.meleemanager;
+
+import io.github.guisso.jankenpon.AbstractPlayer;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.SplittableRandom;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Round-robin schedule computed on demand, without storing its melees.
+ * <p>
+ * Pair indexes run over the upper triangle of the players' matrix, in the
+ * order of {@link TournamentEngine#roundRobin(List)}. A seeded schedule maps
+ * each position to a pair index through a Feistel permutation, walking its
+ * cycle until it falls inside the schedule, and picks the first player from
+ * the same seed. Any position can be read in constant time and memory
+ * stays proportional to the number of players.
+ *
+ * @author Luis Guisso &lt;luis.guisso at ifnmg.edu.br&gt;
+ * @version 0.1
+ * @since 0.1, Oct 18, 2026
+ */
+public final class Pairings
+        implements Iterable<AbstractPlayer[]> {
+
+    private static final int ROUNDS = 4;
+
+    private final AbstractPlayer[] players;
+    private final long size;
+
+    // Permutation, none when keys is null
+    private final long[] keys;
+    private final long sideKey;
+    private final int halfBits;
+    private final long halfMask;
+
+    /**
+     * Schedule in pairing order
+     *
+     * @param players All players
+     */
+    public Pairings(List<AbstractPlayer> players) {
+        this.players = players.toArray(AbstractPlayer[]::new);
+        this.size = (long) this.players.length * (this.players.length - 1) / 2;
+        this.keys = null;
+        this.sideKey = 0;
+        this.halfBits = 0;
+        this.halfMask = 0;
+    }
+
+    /**
+     * Shuffled schedule, always the same for the same seed and players
+     *
+     * @param players All players
+     * @param seed Seed of the shuffle
+     */
+    public Pairings(List<AbstractPlayer> players, long seed) {
+        this.players = players.toArray(AbstractPlayer[]::new);
+        this.size = (long) this.players.length * (this.players.length - 1) / 2;
+
+        SplittableRandom random = new SplittableRandom(seed);
+        this.keys = new long[ROUNDS];
+        for (int round = 0; round < ROUNDS; round++) {
+            keys[round] = random.nextLong();
+        }
+        this.sideKey = random.nextLong();
+
+        // Smallest even number of bits holding every pair index
+        int bits = 64 - Long.numberOfLeadingZeros(Math.max(size - 1, 1));
+        this.halfBits = (bits + 1) / 2;
+        this.halfMask = (1L << halfBits) - 1;
+    }
+
+    /**
+     * @return Number of melees
+     */
+    public long size() {
+        return size;
+    }
+
+    /**
+     * @return Number of players
+     */
+    public int players() {
+        return players.length;
+    }
+
+    /**
+     * @param position Schedule position, from 0 to {@link #size()} - 1
+     * @return Player A and player B of the melee, in a new array
+     */
+    public AbstractPlayer[] get(long position) {
+        if (position < 0 || position >= size) {
+            throw new IndexOutOfBoundsException(position);
+        }
+
+        long index = index(position);
+        int n = players.length;
+        int a = row(index, n);
+        int b = (int) (index - rowStart(a, n)) + a + 1;
+
+        if (keys != null && (mix(position ^ sideKey) & 1) != 0) {
+            return new AbstractPlayer[]{players[b], players[a]};
+        }
+        return new AbstractPlayer[]{players[a], players[b]};
+    }
+
+    /**
+     * @param position Schedule position, from 0 to {@link #size()} - 1
+     * @return Pair index played at that position
+     */
+    public long index(long position) {
+        if (keys == null) {
+            return position;
+        }
+
+        long index = position;
+        do {
+            index = encrypt(index);
+        } while (index >= size);
+        return index;
+    }
+
+    @Override
+    public Iterator<AbstractPlayer[]> iterator() {
+        return Spliterators.iterator(spliterator());
+    }
+
+    @Override
+    public Spliterator<AbstractPlayer[]> spliterator() {
+        return new PairSpliterator(0, size);
+    }
+
+    /**
+     * @param parallel Whether the stream is parallel
+     * @return Every melee, in schedule order
+     */
+    public Stream<AbstractPlayer[]> stream(boolean parallel) {
+        return StreamSupport.stream(spliterator(), parallel);
+    }
+
+    /**
+     * Materializes the schedule, only for small tournaments
+     *
+     * @return All pair players, in schedule order
+     */
+    public AbstractPlayer[][] toArray() {
+        if (size > Integer.MAX_VALUE - 8) {
+            throw new IllegalStateException("Too many melees: " + size);
+        }
+        return stream(false).toArray(AbstractPlayer[][]::new);
+    }
+
+    /**
+     * First player of the row holding the pair index
+     */
+    private static int row(long index, int n) {
+        // Largest row whose start is not after the index
+        double b = 2.0 * n - 1;
+        int row = (int) ((b - Math.sqrt(b * b - 8.0 * index)) / 2);
+        while (row > 0 && rowStart(row, n) > index) {
+            row--;
+        }
+        while (row + 1 < n && rowStart(row + 1, n) <= index) {
+            row++;
+        }
+        return row;
+    }
+
+    /**
+     * Pair index of (row, row + 1)
+     */
+    private static long rowStart(long row, int n) {
+        return row * (2L * n - row - 1) / 2;
+    }
+
+    /**
+     * Balanced Feistel network over 2 * halfBits bits
+     */
+    private long encrypt(long value) {
+        long left = value >>> halfBits;
+        long right = value & halfMask;
+        for (long key : keys) {
+            long next = left ^ (mix(right ^ key) & halfMask);
+            left = right;
+            right = next;
+        }
+        return (left << halfBits) | right;
+    }
+
+    /**
+     * SplitMix64 finalizer
+     */
+    private static long mix(long z) {
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+
+    /**
+     * Range of schedule positions, halved on every split
+     */
+    private final class PairSpliterator
+            implements Spliterator<AbstractPlayer[]> {
+
+        private long position;
+        private final long fence;
+
+        PairSpliterator(long position, long fence) {
+            this.position = position;
+            this.fence = fence;
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super AbstractPlayer[]> action) {
+            if (position >= fence) {
+                return false;
+            }
+            action.accept(get(position++));
+            return true;
+        }
+
+        @Override
+        public void forEachRemaining(Consumer<? super AbstractPlayer[]> action) {
+            while (position < fence) {
+                action.accept(get(position++));
+            }
+        }
+
+        @Override
+        public Spliterator<AbstractPlayer[]> trySplit() {
+            long middle = (position + fence) >>> 1;
+            if (middle <= position) {
+                return null;
+            }
+            PairSpliterator prefix = new PairSpliterator(position, middle);
+            position = middle;
+            return prefix;
+        }
+
+        @Override
+        public long estimateSize() {
+            return fence - position;
+        }
+
+        @Override
+        public int characteristics() {
+            return ORDERED | SIZED | SUBSIZED | NONNULL | IMMUTABLE;
+        }
+    }
+}
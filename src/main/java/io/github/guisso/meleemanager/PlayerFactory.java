@@ -0,0 +1,86 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2025 Luis Guisso &lt;luis.guisso at ifnmg.edu.br&gt;.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package io.github.guisso.meleemanager;
+
+import io.github.guisso.jankenpon.AbstractPlayer;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Constructor;
+
+/**
+ * Creates a new instance of a player for every melee.
+ * <p>
+ * The loaded players stay as the identity of each player in sessions,
+ * standings and records; the instances created here only make the moves,
+ * and their points are summed per player from the sessions as usual.
+ * No history leaks from one opponent to the next, and the same player may
+ * play any number of melees at once. Each class's no-argument constructor
+ * is looked up once and kept as a {@link MethodHandle}.
+ *
+ * @author Luis Guisso &lt;luis.guisso at ifnmg.edu.br&gt;
+ * @version 0.1
+ * @since 0.1, Oct 18, 2026
+ */
+public final class PlayerFactory {
+
+    private static final MethodType CONSTRUCTOR
+            = MethodType.methodType(AbstractPlayer.class);
+
+    private static final ClassValue<MethodHandle> CONSTRUCTORS
+            = new ClassValue<>() {
+        @Override
+        protected MethodHandle computeValue(Class<?> type) {
+            try {
+                Constructor<?> constructor = type.getDeclaredConstructor();
+                constructor.setAccessible(true);
+                return MethodHandles.lookup()
+                        .unreflectConstructor(constructor)
+                        .asType(CONSTRUCTOR);
+            } catch (ReflectiveOperationException ex) {
+                throw new IllegalArgumentException(
+                        type.getName() + " has no usable no-argument constructor", ex);
+            }
+        }
+    };
+
+    /**
+     * @param player A loaded player
+     * @return A new instance of the player's class
+     * @throws IllegalArgumentException If the class has no no-argument
+     * constructor
+     * @throws IllegalStateException If the constructor throws
+     */
+    public AbstractPlayer newInstance(AbstractPlayer player) {
+        MethodHandle constructor = CONSTRUCTORS.get(player.getClass());
+        try {
+            return (AbstractPlayer) constructor.invokeExact();
+        } catch (RuntimeException | Error ex) {
+            throw ex;
+        } catch (Throwable ex) {
+            throw new IllegalStateException(
+                    "Can not create " + player.getClass().getName(), ex);
+        }
+    }
+}
@@ -0,0 +1,191 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2025 Luis Guisso &lt;luis.guisso at ifnmg.edu.br&gt;.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package io.github.guisso.meleemanager;
+
+import io.github.guisso.jankenpon.AbstractPlayer;
+import io.github.guisso.jankenpon.Move;
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.FileDescriptor;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Host process of a {@link PlayerSandbox}: loads the players of one jar and
+ * makes their moves as the manager asks for them over stdin, answering over
+ * stdout.
+ * <p>
+ * Each player has a thread of its own, so its moves run in the order they
+ * were asked while other players move at the same time. A move cancelled by
+ * the manager before it starts is skipped and answered as failed, so moves
+ * given up on do not pile up behind a stuck player. Answers are
+ * flushed once for all the moves finished meanwhile. Anything else written
+ * to {@code System.out} goes to stderr so it can not break the protocol.
+ *
+ * @author Luis Guisso &lt;luis.guisso at ifnmg.edu.br&gt;
+ * @version 0.1
+ * @since 0.1, Oct 18, 2026
+ */
+public final class PlayerHost {
+
+    private static final Logger logger
+            = Logger.getLogger(PlayerHost.class.getName());
+
+    private static final Move[] MOVES = Move.values();
+
+    // Request id and move packed in a long
+    private static final long STOP_ANSWER = -1;
+
+    private PlayerHost() {
+    }
+
+    /**
+     * @param args The player jar
+     * @throws Exception If the players fail to load
+     */
+    public static void main(String[] args)
+            throws Exception {
+
+        DataOutputStream out = new DataOutputStream(new BufferedOutputStream(
+                new FileOutputStream(FileDescriptor.out)));
+        System.setOut(System.err);
+        DataInputStream in = new DataInputStream(
+                new BufferedInputStream(System.in));
+
+        Path jar = Path.of(args[0]);
+        List<AbstractPlayer> players
+                = new PlayerLoader(jar.getParent()).load(jar).players();
+
+        out.writeByte(PlayerSandbox.HELLO);
+        out.writeInt(players.size());
+        for (AbstractPlayer player : players) {
+            out.writeUTF(player.getClass().getName());
+            out.writeUTF(player.getDeveloperName());
+        }
+        out.flush();
+
+        List<ExecutorService> executors = new ArrayList<>(players.size());
+        for (int i = 0; i < players.size(); i++) {
+            executors.add(Executors.newSingleThreadExecutor(task
+                    -> Thread.ofPlatform().daemon().name("player").unstarted(task)));
+        }
+
+        BlockingQueue<Long> answers = new LinkedBlockingQueue<>();
+        // Requests not started yet, removed by a cancel
+        Set<Integer> queued = ConcurrentHashMap.newKeySet();
+        Thread sender = Thread.ofPlatform().name("host-send")
+                .start(() -> send(out, answers));
+
+        try {
+            while (true) {
+                byte type;
+                try {
+                    type = in.readByte();
+                } catch (EOFException ex) {
+                    break;
+                }
+                if (type == PlayerSandbox.STOP) {
+                    break;
+                }
+                if (type == PlayerSandbox.CANCEL) {
+                    queued.remove(in.readInt());
+                    continue;
+                }
+                if (type != PlayerSandbox.MOVE) {
+                    throw new IOException("Unknown message: " + type);
+                }
+
+                int id = in.readInt();
+                int index = in.readUnsignedShort();
+                Move previous = MOVES[in.readUnsignedByte()];
+                AbstractPlayer player = players.get(index);
+
+                queued.add(id);
+                executors.get(index).execute(() -> {
+                    if (!queued.remove(id)) {
+                        answers.add((id & 0xFFFFFFFFL) << 8 | PlayerSandbox.FAILED);
+                        return;
+                    }
+
+                    int move;
+                    try {
+                        Move made = player.makeMyMove(previous);
+                        move = (made == null ? Move.NONE : made).ordinal();
+                    } catch (RuntimeException | Error ex) {
+                        logger.log(Level.WARNING, player.getDeveloperName()
+                                + " failed to move", ex);
+                        move = PlayerSandbox.FAILED;
+                    }
+                    answers.add((id & 0xFFFFFFFFL) << 8 | move);
+                });
+            }
+        } finally {
+            answers.add(STOP_ANSWER);
+            sender.join();
+        }
+
+        // Threads left by the players must not keep the host alive
+        System.exit(0);
+    }
+
+    /**
+     * Writes the finished moves, flushing once per batch
+     */
+    private static void send(DataOutputStream out, BlockingQueue<Long> answers) {
+        try {
+            while (true) {
+                Long answer = answers.take();
+                while (answer != null) {
+                    if (answer == STOP_ANSWER) {
+                        out.flush();
+                        return;
+                    }
+                    out.writeByte(PlayerSandbox.MOVED);
+                    out.writeInt((int) (answer >>> 8));
+                    out.writeByte((int) (answer & 0xFF));
+                    answer = answers.poll();
+                }
+                out.flush();
+            }
+        } catch (IOException ex) {
+            logger.log(Level.WARNING, "Manager unreachable", ex);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,470 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2025 Luis Guisso &lt;luis.guisso at ifnmg.edu.br&gt;.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package io.github.guisso.meleemanager;
+
+import io.github.guisso.jankenpon.AbstractPlayer;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.reflect.Modifier;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Enumeration;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.jar.JarEntry;
+import java.util.jar.JarFile;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import java.util.stream.Stream;
+
+/**
+ * Loads the players of every jar in a directory.
+ * <p>
+ * Jars are processed in parallel. Class file headers are read without
+ * loading the classes, and only those whose superclass chain inside the jar
+ * reaches {@link AbstractPlayer} are loaded. The result of each scan is kept
+ * in a {@link JarIndex}, so unchanged jars are not scanned again.
+ * <p>
+ * Each jar gets its own class loader, left open for the lifetime of its
+ * players; closing it is up to the caller, usually a {@link PlayerRegistry}.
+ *
+ * @author Luis Guisso &lt;luis.guisso at ifnmg.edu.br&gt;
+ * @version 0.1
+ * @since 0.1, Oct 18, 2026
+ */
+public final class PlayerLoader {
+
+    private static final String PLAYER_CLASS
+            = AbstractPlayer.class.getName().replace('.', '/');
+
+    private static final Logger logger
+            = Logger.getLogger(PlayerLoader.class.getName());
+
+    /**
+     * Time spent in each loading step. Step times are summed over all jars,
+     * so with parallel loading they may exceed the total time.
+     *
+     * @param jars Jars found
+     * @param indexedJars Jars whose classes came from the index
+     * @param players Players instantiated
+     * @param indexNanos Time reading and writing the index
+     * @param scanNanos Time hashing jars and reading class headers
+     * @param loadNanos Time loading player classes
+     * @param instantiateNanos Time running player constructors
+     * @param totalNanos Elapsed time
+     */
+    public record LoadReport(int jars, int indexedJars, int players,
+            long indexNanos, long scanNanos, long loadNanos,
+            long instantiateNanos, long totalNanos) {
+
+        @Override
+        public String toString() {
+            return String.format("%d players from %d jars (%d indexed) in %.1f ms:"
+                    + " index %.1f ms, scan %.1f ms, load %.1f ms, instantiate %.1f ms",
+                    players, jars, indexedJars, totalNanos / 1e6,
+                    indexNanos / 1e6, scanNanos / 1e6, loadNanos / 1e6,
+                    instantiateNanos / 1e6);
+        }
+    }
+
+    /**
+     * Players of a jar and the class loader that defined them
+     *
+     * @param jar The jar
+     * @param classLoader Open class loader, null if the jar has no players
+     * @param players Players of the jar
+     */
+    public record LoadedJar(Path jar, URLClassLoader classLoader,
+            List<AbstractPlayer> players) {
+
+    }
+
+    private final Path directory;
+    private JarIndex index;
+
+    // Steps of the current load(), summed over its jars
+    private final LongAdder indexedJars = new LongAdder();
+    private final LongAdder scanNanos = new LongAdder();
+    private final LongAdder loadNanos = new LongAdder();
+    private final LongAdder instantiateNanos = new LongAdder();
+
+    private LoadReport report;
+
+    /**
+     * @param directory Players' directory
+     */
+    public PlayerLoader(Path directory) {
+        this.directory = directory;
+    }
+
+    /**
+     * Loads and instantiates all players, ordered by jar name
+     *
+     * @return The players of each jar
+     * @throws IOException If a jar or the directory can not be read
+     * @throws ReflectiveOperationException If a player can not be created
+     */
+    public List<LoadedJar> load()
+            throws IOException, ReflectiveOperationException {
+
+        long start = System.nanoTime();
+        indexedJars.reset();
+        scanNanos.reset();
+        loadNanos.reset();
+        instantiateNanos.reset();
+
+        List<Path> jars;
+        try (Stream<Path> files = Files.list(directory)) {
+            jars = files
+                    .filter(PlayerLoader::isJar)
+                    .sorted()
+                    .toList();
+        }
+
+        long indexStart = System.nanoTime();
+        JarIndex index = index();
+        long indexTime = System.nanoTime() - indexStart;
+
+        // Every jar is tried, so the ones loaded can be closed on a failure
+        List<Attempt> attempts = jars.parallelStream()
+                .map(jar -> attempt(jar, index))
+                .toList();
+
+        List<LoadedJar> loaded = new ArrayList<>(attempts.size());
+        Exception failure = null;
+        for (Attempt attempt : attempts) {
+            if (attempt.failure() == null) {
+                loaded.add(attempt.loaded());
+            } else if (failure == null) {
+                failure = attempt.failure();
+            }
+        }
+        if (failure != null) {
+            close(loaded);
+            switch (failure) {
+                case IOException ex ->
+                    throw ex;
+                case ReflectiveOperationException ex ->
+                    throw ex;
+                case RuntimeException ex ->
+                    throw ex;
+                default ->
+                    throw new IllegalStateException(failure);
+            }
+        }
+
+        indexStart = System.nanoTime();
+        index.retain(jars.stream()
+                .map(jar -> jar.getFileName().toString())
+                .toList());
+        save(index);
+        indexTime += System.nanoTime() - indexStart;
+
+        int players = loaded.stream()
+                .mapToInt(jar -> jar.players().size())
+                .sum();
+
+        report = new LoadReport(jars.size(), indexedJars.intValue(),
+                players, indexTime, scanNanos.sum(), loadNanos.sum(),
+                instantiateNanos.sum(), System.nanoTime() - start);
+        logger.fine(report::toString);
+
+        return loaded;
+    }
+
+    /**
+     * Loads and instantiates the players of a single jar
+     *
+     * @param jar The jar
+     * @return The players of the jar
+     * @throws IOException If the jar can not be read
+     * @throws ReflectiveOperationException If a player can not be created
+     */
+    public LoadedJar load(Path jar)
+            throws IOException, ReflectiveOperationException {
+        JarIndex index = index();
+        LoadedJar loaded = load(jar, index);
+        save(index);
+        return loaded;
+    }
+
+    /**
+     * @return Time breakdown of the last load of all jars, null before it
+     */
+    public LoadReport getReport() {
+        return report;
+    }
+
+    static boolean isJar(Path file) {
+        return file.getFileName().toString().endsWith(".jar");
+    }
+
+    private JarIndex index() {
+        if (index == null) {
+            index = JarIndex.load(directory);
+        }
+        return index;
+    }
+
+    private static void save(JarIndex index) {
+        try {
+            index.save();
+        } catch (IOException ex) {
+            logger.log(Level.WARNING, "Jar index not saved", ex);
+        }
+    }
+
+    /**
+     * Outcome of loading one jar: the jar, or why it failed
+     */
+    private record Attempt(LoadedJar loaded, Exception failure) {
+
+    }
+
+    private Attempt attempt(Path jar, JarIndex index) {
+        try {
+            return new Attempt(load(jar, index), null);
+        } catch (IOException | ReflectiveOperationException
+                | RuntimeException ex) {
+            return new Attempt(null, ex);
+        }
+    }
+
+    private static void close(List<LoadedJar> loaded) {
+        for (LoadedJar jar : loaded) {
+            if (jar.classLoader() != null) {
+                try {
+                    jar.classLoader().close();
+                } catch (IOException ex) {
+                    logger.log(Level.WARNING, null, ex);
+                }
+            }
+        }
+    }
+
+    private LoadedJar load(Path jar, JarIndex index)
+            throws IOException, ReflectiveOperationException {
+        long start = System.nanoTime();
+        LoadedJar loaded = loadTimed(jar, index);
+        Metrics.getInstance().recordJarLoad(
+                jar.getFileName().toString(), System.nanoTime() - start);
+        return loaded;
+    }
+
+    private LoadedJar loadTimed(Path jar, JarIndex index)
+            throws IOException, ReflectiveOperationException {
+
+        List<String> classNames = classNames(jar, index);
+        List<AbstractPlayer> players = new ArrayList<>(classNames.size());
+
+        if (classNames.isEmpty()) {
+            return new LoadedJar(jar, null, players);
+        }
+
+        URLClassLoader classLoader = new URLClassLoader(
+                new URL[]{jar.toUri().toURL()});
+
+        try {
+            for (String className : classNames) {
+                long start = System.nanoTime();
+                Class<?> clazz = classLoader.loadClass(className);
+                long loaded = System.nanoTime();
+                players.add((AbstractPlayer) clazz
+                        .getDeclaredConstructor().newInstance());
+                instantiateNanos.add(System.nanoTime() - loaded);
+                loadNanos.add(loaded - start);
+            }
+        } catch (ReflectiveOperationException | RuntimeException ex) {
+            classLoader.close();
+            throw ex;
+        }
+
+        return new LoadedJar(jar, classLoader, players);
+    }
+
+    /**
+     * Player classes of a jar, from the index when the jar is unchanged
+     */
+    private List<String> classNames(Path jar, JarIndex index)
+            throws IOException {
+
+        String jarName = jar.getFileName().toString();
+        long size = Files.size(jar);
+        long lastModified = Files.getLastModifiedTime(jar).toMillis();
+
+        JarIndex.Entry entry = index.lookup(jarName, size, lastModified);
+        if (entry != null) {
+            indexedJars.increment();
+            return entry.classNames();
+        }
+
+        long start = System.nanoTime();
+        List<String> classNames = scan(jar);
+        index.put(jarName, new JarIndex.Entry(
+                size, lastModified, hash(jar), classNames));
+        scanNanos.add(System.nanoTime() - start);
+
+        return classNames;
+    }
+
+    /**
+     * Finds concrete classes extending {@link AbstractPlayer}, directly or
+     * through other classes of the same jar
+     *
+     * @param jar The jar
+     * @return Binary names of the player classes
+     * @throws IOException If the jar can not be read
+     */
+    static List<String> scan(Path jar)
+            throws IOException {
+
+        // Internal name -> superclass internal name, and access flags
+        Map<String, String> superclasses = new HashMap<>();
+        Map<String, Integer> flags = new HashMap<>();
+
+        try (JarFile jarFile = new JarFile(jar.toFile())) {
+            Enumeration<JarEntry> entries = jarFile.entries();
+
+            while (entries.hasMoreElements()) {
+                JarEntry entry = entries.nextElement();
+                String name = entry.getName();
+
+                if (name.endsWith(".class")
+                        && !name.endsWith("module-info.class")
+                        && !name.startsWith("META-INF/")) {
+                    try (DataInputStream in = new DataInputStream(
+                            jarFile.getInputStream(entry))) {
+                        ClassHeader header = ClassHeader.read(in);
+                        if (header != null) {
+                            superclasses.put(header.name(), header.superName());
+                            flags.put(header.name(), header.accessFlags());
+                        }
+                    }
+                }
+            }
+        }
+
+        List<String> classNames = new ArrayList<>();
+        for (Map.Entry<String, String> e : superclasses.entrySet()) {
+            int accessFlags = flags.get(e.getKey());
+            if ((accessFlags & (Modifier.ABSTRACT | Modifier.INTERFACE)) == 0
+                    && extendsPlayer(e.getValue(), superclasses)) {
+                classNames.add(e.getKey().replace('/', '.'));
+            }
+        }
+        classNames.sort(null);
+
+        return classNames;
+    }
+
+    private static boolean extendsPlayer(String superName,
+            Map<String, String> superclasses) {
+        // Bounded walk, guards against cyclic garbage
+        for (int depth = 0; superName != null && depth <= superclasses.size(); depth++) {
+            if (superName.equals(PLAYER_CLASS)) {
+                return true;
+            }
+            superName = superclasses.get(superName);
+        }
+        return false;
+    }
+
+    private static String hash(Path jar)
+            throws IOException {
+        try (InputStream in = Files.newInputStream(jar)) {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            byte[] buffer = new byte[64 * 1024];
+            int read;
+            while ((read = in.read(buffer)) > 0) {
+                digest.update(buffer, 0, read);
+            }
+            return HexFormat.of().formatHex(digest.digest());
+        } catch (NoSuchAlgorithmException ex) {
+            throw new IllegalStateException(ex);
+        }
+    }
+
+    /**
+     * Name, superclass and access flags of a class file, read from its
+     * constant pool without defining the class
+     */
+    private record ClassHeader(String name, String superName, int accessFlags) {
+
+        static ClassHeader read(DataInputStream in)
+                throws IOException {
+
+            if (in.readInt() != 0xCAFEBABE) {
+                return null;
+            }
+            in.readUnsignedShort(); // minor
+            in.readUnsignedShort(); // major
+
+            int count = in.readUnsignedShort();
+            String[] utf8 = new String[count];
+            int[] classNames = new int[count];
+
+            for (int i = 1; i < count; i++) {
+                int tag = in.readUnsignedByte();
+                switch (tag) {
+                    case 1 ->
+                        utf8[i] = in.readUTF();
+                    case 7 ->
+                        classNames[i] = in.readUnsignedShort();
+                    case 8, 16, 19, 20 ->
+                        in.skipBytes(2);
+                    case 15 ->
+                        in.skipBytes(3);
+                    case 3, 4, 9, 10, 11, 12, 17, 18 ->
+                        in.skipBytes(4);
+                    case 5, 6 -> {
+                        // Takes two entries
+                        in.skipBytes(8);
+                        i++;
+                    }
+                    default -> {
+                        return null;
+                    }
+                }
+            }
+
+            int accessFlags = in.readUnsignedShort();
+            int thisClass = in.readUnsignedShort();
+            int superClass = in.readUnsignedShort();
+
+            return new ClassHeader(
+                    utf8[classNames[thisClass]],
+                    superClass == 0 ? null : utf8[classNames[superClass]],
+                    accessFlags);
+        }
+    }
+}
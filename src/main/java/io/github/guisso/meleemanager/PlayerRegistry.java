@@ -0,0 +1,362 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2025 Luis Guisso &lt;luis.guisso at ifnmg.edu.br&gt;.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package io.github.guisso.meleemanager;
+
+import io.github.guisso.jankenpon.AbstractPlayer;
+import java.io.Closeable;
+import java.io.IOException;
+import java.net.URLClassLoader;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Owns the players of a directory and one class loader per jar.
+ * <p>
+ * Class loaders stay open while their players may still be running, so
+ * classes loaded lazily by a player keep working. With {@link #watch()} the
+ * directory is monitored and jars are added, replaced or unloaded without
+ * restarting the process. Tournaments take the players with
+ * {@link #acquire()} and give them back with {@link #release()}; loaders of
+ * jars replaced or removed meanwhile are retired, and closed once no
+ * tournament holds players any more.
+ *
+ * @author Luis Guisso &lt;luis.guisso at ifnmg.edu.br&gt;
+ * @version 0.1
+ * @since 0.1, Oct 18, 2026
+ */
+public final class PlayerRegistry
+        implements Closeable {
+
+    /**
+     * Notified from the watcher thread whenever a jar changes
+     */
+    @FunctionalInterface
+    public interface Listener {
+
+        /**
+         * @param jarName Jar file name
+         * @param removed Players no longer available, possibly empty
+         * @param added Players now available, possibly empty
+         */
+        void playersChanged(String jarName,
+                List<AbstractPlayer> removed, List<AbstractPlayer> added);
+    }
+
+    // Time without new events before changed jars are reloaded
+    private static final long QUIET_PERIOD_MILLIS = 500;
+
+    private static final Logger logger
+            = Logger.getLogger(PlayerRegistry.class.getName());
+
+    private final Path directory;
+    private final PlayerLoader loader;
+
+    // Jar name -> loaded jar, ordered by name
+    private final Map<String, PlayerLoader.LoadedJar> jars;
+    private final List<URLClassLoader> retired;
+    private final List<Listener> listeners;
+    private int users;
+
+    private WatchService watchService;
+    private Thread watcher;
+
+    /**
+     * @param directory Players' directory
+     */
+    public PlayerRegistry(Path directory) {
+        this.directory = directory;
+        this.loader = new PlayerLoader(directory);
+        this.jars = new TreeMap<>();
+        this.retired = new ArrayList<>();
+        this.listeners = new CopyOnWriteArrayList<>();
+    }
+
+    /**
+     * Loads every jar of the directory, replacing anything loaded before
+     *
+     * @return The players, ordered by jar name
+     * @throws IOException If a jar or the directory can not be read
+     * @throws ReflectiveOperationException If a player can not be created
+     */
+    public synchronized List<AbstractPlayer> load()
+            throws IOException, ReflectiveOperationException {
+
+        List<PlayerLoader.LoadedJar> loaded = loader.load();
+
+        jars.values().forEach(this::retire);
+        jars.clear();
+        for (PlayerLoader.LoadedJar jar : loaded) {
+            jars.put(jar.jar().getFileName().toString(), jar);
+        }
+        if (users == 0) {
+            closeRetired();
+        }
+
+        return getPlayers();
+    }
+
+    /**
+     * Takes the current players for a tournament. Loaders of jars replaced
+     * from now on stay open until every tournament has called
+     * {@link #release()}.
+     *
+     * @return Current players, ordered by jar name
+     */
+    public synchronized List<AbstractPlayer> acquire() {
+        users++;
+        return getPlayers();
+    }
+
+    /**
+     * Gives back the players of {@link #acquire()}. The last tournament to
+     * finish closes the loaders retired meanwhile.
+     */
+    public synchronized void release() {
+        if (users == 0) {
+            throw new IllegalStateException("Players not acquired");
+        }
+        if (--users == 0) {
+            closeRetired();
+        }
+    }
+
+    /**
+     * @return Time breakdown of the last {@link #load()}, null before it
+     */
+    public PlayerLoader.LoadReport getReport() {
+        return loader.getReport();
+    }
+
+    /**
+     * @return Current players, ordered by jar name
+     */
+    public synchronized List<AbstractPlayer> getPlayers() {
+        List<AbstractPlayer> players = new ArrayList<>();
+        for (PlayerLoader.LoadedJar jar : jars.values()) {
+            players.addAll(jar.players());
+        }
+        return players;
+    }
+
+    public void addListener(Listener listener) {
+        listeners.add(listener);
+    }
+
+    public void removeListener(Listener listener) {
+        listeners.remove(listener);
+    }
+
+    /**
+     * Loads a jar again, or unloads it if it no longer exists. If the new
+     * version fails to load the current players are kept.
+     *
+     * @param jarName Jar file name
+     */
+    public void reload(String jarName) {
+        Path jar = directory.resolve(jarName);
+        List<AbstractPlayer> removed = List.of();
+        List<AbstractPlayer> added = List.of();
+
+        synchronized (this) {
+            PlayerLoader.LoadedJar current = jars.get(jarName);
+
+            if (Files.isRegularFile(jar)) {
+                PlayerLoader.LoadedJar loaded;
+                try {
+                    loaded = loader.load(jar);
+                } catch (IOException | ReflectiveOperationException | LinkageError ex) {
+                    logger.log(Level.WARNING, "Keeping previous players of " + jarName, ex);
+                    return;
+                }
+                jars.put(jarName, loaded);
+                added = loaded.players();
+            } else {
+                jars.remove(jarName);
+            }
+
+            if (current != null) {
+                retire(current);
+                removed = current.players();
+                if (users == 0) {
+                    closeRetired();
+                }
+            }
+        }
+
+        if (!removed.isEmpty() || !added.isEmpty()) {
+            logger.log(Level.INFO, "{0}: {1} players removed, {2} added",
+                    new Object[]{jarName, removed.size(), added.size()});
+
+            for (Listener listener : listeners) {
+                listener.playersChanged(jarName, removed, added);
+            }
+        }
+    }
+
+    /**
+     * Starts watching the directory on a daemon thread
+     *
+     * @throws IOException If the directory can not be watched
+     */
+    public synchronized void watch()
+            throws IOException {
+        if (watcher != null) {
+            return;
+        }
+
+        WatchService service = directory.getFileSystem().newWatchService();
+        directory.register(service,
+                StandardWatchEventKinds.ENTRY_CREATE,
+                StandardWatchEventKinds.ENTRY_MODIFY,
+                StandardWatchEventKinds.ENTRY_DELETE);
+
+        watchService = service;
+        watcher = new Thread(() -> processEvents(service),
+                "player-registry-watcher");
+        watcher.setDaemon(true);
+        watcher.start();
+    }
+
+    /**
+     * Stops watching the directory
+     *
+     * @throws IOException If the watch service can not be closed
+     */
+    public void unwatch()
+            throws IOException {
+        Thread thread;
+        synchronized (this) {
+            thread = watcher;
+            watcher = null;
+            if (watchService != null) {
+                watchService.close();
+                watchService = null;
+            }
+        }
+
+        if (thread != null) {
+            thread.interrupt();
+        }
+    }
+
+    /**
+     * Closes the loaders of jars replaced or removed so far. Only safe once
+     * their players are no longer playing.
+     */
+    private void closeRetired() {
+        for (URLClassLoader classLoader : retired) {
+            try {
+                classLoader.close();
+            } catch (IOException ex) {
+                logger.log(Level.WARNING, null, ex);
+            }
+        }
+        retired.clear();
+    }
+
+    /**
+     * Stops watching and closes every class loader
+     *
+     * @throws IOException If the watch service can not be closed
+     */
+    @Override
+    public void close()
+            throws IOException {
+        unwatch();
+
+        synchronized (this) {
+            jars.values().forEach(this::retire);
+            jars.clear();
+            closeRetired();
+        }
+    }
+
+    private void retire(PlayerLoader.LoadedJar jar) {
+        if (jar.classLoader() != null) {
+            retired.add(jar.classLoader());
+        }
+    }
+
+    /**
+     * Collects changed jars and reloads them once the directory is quiet,
+     * so jars still being copied are not loaded half written
+     */
+    private void processEvents(WatchService service) {
+        Set<String> changed = new TreeSet<>();
+
+        try {
+            while (!Thread.currentThread().isInterrupted()) {
+                WatchKey key = changed.isEmpty()
+                        ? service.take()
+                        : service.poll(QUIET_PERIOD_MILLIS, TimeUnit.MILLISECONDS);
+
+                if (key == null) {
+                    changed.forEach(this::reload);
+                    changed.clear();
+                    continue;
+                }
+
+                for (WatchEvent<?> event : key.pollEvents()) {
+                    if (event.context() instanceof Path file
+                            && PlayerLoader.isJar(file)) {
+                        changed.add(file.toString());
+                    } else if (event.kind() == StandardWatchEventKinds.OVERFLOW) {
+                        // Events lost, check every known jar
+                        synchronized (this) {
+                            changed.addAll(jars.keySet());
+                        }
+                        try (var files = Files.list(directory)) {
+                            files.filter(PlayerLoader::isJar)
+                                    .forEach(f -> changed.add(f.getFileName().toString()));
+                        } catch (IOException ex) {
+                            logger.log(Level.WARNING, null, ex);
+                        }
+                    }
+                }
+
+                if (!key.reset()) {
+                    logger.warning("Players' directory no longer accessible");
+                    return;
+                }
+            }
+        } catch (InterruptedException | ClosedWatchServiceException ex) {
+            // Registry closed
+        }
+    }
+}
@@ -0,0 +1,411 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2025 Luis Guisso &lt;luis.guisso at ifnmg.edu.br&gt;.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package io.github.guisso.meleemanager;
+
+import io.github.guisso.jankenpon.AbstractPlayer;
+import io.github.guisso.jankenpon.Move;
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import java.util.stream.Stream;
+
+/**
+ * Runs the players of each jar in a {@link PlayerHost} process of its own,
+ * so a player that crashes, runs out of heap or exits takes down only its
+ * host, not the manager. Players still share the machine, and a player
+ * that stalls forfeits its moves instead of blocking the melee: a move not
+ * answered within the move timeout, 1 second by default, is played as
+ * {@link Move#NONE}, and so is every following move of that player until
+ * the late one returns.
+ * <p>
+ * The manager only sees {@link RemotePlayer}s. Their moves are requests on
+ * the host's stdin, answered on its stdout, and a request does not wait for
+ * the previous answer: the moves of every melee in flight share the pipe,
+ * and a sender thread flushes once for all the requests queued meanwhile.
+ * The host answers in any order, tagging each move with its request.
+ * <p>
+ * Protocol, big endian:
+ * <pre>
+ * host    HELLO players (s4), class and developer name of each player
+ *         (modified UTF-8)
+ * manager MOVE request (s4), player (u2), opponent's previous move (u1)
+ * host    MOVED request (s4), move (u1, {@link #FAILED} if it threw)
+ * manager CANCEL request (s4), once past its deadline
+ * host    MOVED request (s4), {@link #FAILED}, if it had not started
+ * manager STOP
+ * </pre>
+ * A host that dies fails the moves in flight and every following one with
+ * an {@link IllegalStateException}; a {@link MoveWatchdog} turns them into
+ * forfeits.
+ *
+ * @author Luis Guisso &lt;luis.guisso at ifnmg.edu.br&gt;
+ * @version 0.1
+ * @since 0.1, Oct 18, 2026
+ */
+public final class PlayerSandbox
+        implements AutoCloseable {
+
+    static final byte HELLO = 1;
+    static final byte MOVE = 2;
+    static final byte MOVED = 3;
+    static final byte STOP = 4;
+    static final byte CANCEL = 5;
+    static final int FAILED = 0xFF;
+
+    private static final Logger logger
+            = Logger.getLogger(PlayerSandbox.class.getName());
+
+    private static final Move[] MOVES = Move.values();
+
+    private final Path directory;
+    private final List<Channel> channels;
+    private List<String> jvmOptions;
+    private Duration moveTimeout;
+
+    /**
+     * @param directory Players' directory
+     */
+    public PlayerSandbox(Path directory) {
+        this.directory = directory;
+        this.channels = new ArrayList<>();
+        this.jvmOptions = List.of("-Xmx128m", "-XX:+UseSerialGC");
+        this.moveTimeout = Duration.ofSeconds(1);
+    }
+
+    /**
+     * @param moveTimeout Time a host has to answer a move before it is
+     * forfeited, for the hosts loaded from now on
+     */
+    public void setMoveTimeout(Duration moveTimeout) {
+        this.moveTimeout = moveTimeout;
+    }
+
+    /**
+     * @param jvmOptions Options of the host JVMs, such as their heap size
+     */
+    public void setJvmOptions(List<String> jvmOptions) {
+        this.jvmOptions = List.copyOf(jvmOptions);
+    }
+
+    /**
+     * Starts a host for every jar and waits for their players
+     *
+     * @return The players, ordered by jar name
+     * @throws IOException If the directory can not be read or a host fails
+     * to start
+     */
+    public List<AbstractPlayer> load()
+            throws IOException {
+
+        List<Path> jars;
+        try (Stream<Path> files = Files.list(directory)) {
+            jars = files
+                    .filter(PlayerLoader::isJar)
+                    .sorted()
+                    .toList();
+        }
+
+        // Hosts start in parallel, then introduce their players in order
+        List<Process> processes = new ArrayList<>(jars.size());
+        try {
+            for (Path jar : jars) {
+                processes.add(start(jar));
+            }
+
+            List<AbstractPlayer> players = new ArrayList<>();
+            for (int i = 0; i < jars.size(); i++) {
+                Channel channel = new Channel(processes.get(i), jars.get(i),
+                        moveTimeout.toNanos());
+                channels.add(channel);
+                players.addAll(channel.hello());
+            }
+            return players;
+        } catch (IOException | RuntimeException ex) {
+            processes.forEach(Process::destroyForcibly);
+            throw ex;
+        }
+    }
+
+    private Process start(Path jar)
+            throws IOException {
+        List<String> command = new ArrayList<>();
+        command.add(Path.of(System.getProperty("java.home"), "bin", "java").toString());
+        command.addAll(jvmOptions);
+        command.addAll(List.of(
+                "-cp", System.getProperty("java.class.path"),
+                PlayerHost.class.getName(),
+                jar.toAbsolutePath().toString()));
+
+        return new ProcessBuilder(command)
+                .redirectError(ProcessBuilder.Redirect.INHERIT)
+                .start();
+    }
+
+    /**
+     * Stops every host, killing the ones that do not exit in time
+     */
+    @Override
+    public void close() {
+        for (Channel channel : channels) {
+            channel.close();
+        }
+        channels.clear();
+    }
+
+    /**
+     * Pipe to one host, shared by its players
+     */
+    static final class Channel {
+
+        // Request id, player and previous move packed in a long
+        private static final long STOP_REQUEST = -1;
+        private static final long CANCEL_REQUEST = 1L << 56;
+
+        private final Process process;
+        private final Path jar;
+        private final long moveTimeoutNanos;
+        private final DataOutputStream out;
+        private final DataInputStream in;
+        private final BlockingQueue<Long> requests;
+        private final Map<Integer, CompletableFuture<Move>> pending;
+        private final AtomicInteger ids;
+        private volatile String failure;
+
+        // Requests given up on -> player, who stalls until they return
+        private final Map<Integer, Integer> abandoned;
+        private final Set<Integer> stalled;
+
+        private Channel(Process process, Path jar, long moveTimeoutNanos) {
+            this.process = process;
+            this.jar = jar;
+            this.moveTimeoutNanos = moveTimeoutNanos;
+            this.out = new DataOutputStream(
+                    new BufferedOutputStream(process.getOutputStream()));
+            this.in = new DataInputStream(
+                    new BufferedInputStream(process.getInputStream()));
+            this.requests = new LinkedBlockingQueue<>();
+            this.pending = new ConcurrentHashMap<>();
+            this.ids = new AtomicInteger();
+            this.abandoned = new ConcurrentHashMap<>();
+            this.stalled = ConcurrentHashMap.newKeySet();
+        }
+
+        /**
+         * Reads the players of the host and starts the pipe threads
+         */
+        private List<RemotePlayer> hello()
+                throws IOException {
+            if (in.readByte() != HELLO) {
+                throw new IOException(jar + ": hello expected");
+            }
+
+            int count = in.readInt();
+            List<RemotePlayer> players = new ArrayList<>(count);
+            for (int i = 0; i < count; i++) {
+                String className = in.readUTF();
+                players.add(new RemotePlayer(this, i, className, in.readUTF()));
+            }
+
+            String name = jar.getFileName().toString();
+            Thread.ofPlatform().daemon().name("sandbox-send-" + name)
+                    .start(this::send);
+            Thread.ofPlatform().daemon().name("sandbox-receive-" + name)
+                    .start(this::receive);
+            return players;
+        }
+
+        /**
+         * Sends a move request and waits for its answer until the deadline
+         *
+         * @return The move, {@link Move#NONE} if forfeited
+         */
+        Move move(int player, Move opponentPreviousMove) {
+            if (stalled.contains(player)) {
+                return Move.NONE;
+            }
+
+            int id = ids.getAndIncrement();
+            CompletableFuture<Move> move = new CompletableFuture<>();
+            pending.put(id, move);
+
+            // Failed after the receiver completed the pending moves
+            if (failure != null) {
+                pending.remove(id);
+                throw new IllegalStateException(failure);
+            }
+
+            requests.add((id & 0xFFFFFFFFL) << 24
+                    | (long) player << 8
+                    | opponentPreviousMove.ordinal());
+
+            try {
+                return move.get(moveTimeoutNanos, TimeUnit.NANOSECONDS);
+            } catch (TimeoutException ex) {
+                logger.log(Level.WARNING, "{0}: player {1} missed its deadline",
+                        new Object[]{jar, player});
+                return abandon(id, player, move);
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                return abandon(id, player, move);
+            } catch (ExecutionException ex) {
+                throw new IllegalStateException(ex.getCause().getMessage(), ex);
+            }
+        }
+
+        /**
+         * Gives up on a request: the host skips it if it has not started,
+         * and the player stalls until it is answered
+         */
+        private Move abandon(int id, int player, CompletableFuture<Move> move) {
+            stalled.add(player);
+            abandoned.put(id, player);
+            if (pending.remove(id) == null) {
+                // Answered meanwhile
+                abandoned.remove(id);
+                stalled.remove(player);
+                return move.isCompletedExceptionally()
+                        ? Move.NONE
+                        : move.getNow(Move.NONE);
+            }
+
+            requests.add(CANCEL_REQUEST | (id & 0xFFFFFFFFL) << 24);
+            return Move.NONE;
+        }
+
+        /**
+         * Writes the queued requests, flushing once per batch
+         */
+        private void send() {
+            try {
+                while (true) {
+                    Long request = requests.take();
+                    while (request != null) {
+                        if (request == STOP_REQUEST) {
+                            out.writeByte(STOP);
+                            out.flush();
+                            return;
+                        }
+                        if ((request & CANCEL_REQUEST) != 0) {
+                            out.writeByte(CANCEL);
+                            out.writeInt((int) (request >>> 24));
+                            request = requests.poll();
+                            continue;
+                        }
+                        out.writeByte(MOVE);
+                        out.writeInt((int) (request >>> 24));
+                        out.writeShort((int) (request >>> 8) & 0xFFFF);
+                        out.writeByte((int) (request & 0xFF));
+                        request = requests.poll();
+                    }
+                    out.flush();
+                }
+            } catch (IOException ex) {
+                fail(jar + ": host unreachable: " + ex.getMessage());
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+            }
+        }
+
+        /**
+         * Completes the moves as the host answers them
+         */
+        private void receive() {
+            try {
+                while (true) {
+                    if (in.readByte() != MOVED) {
+                        throw new IOException("answer expected");
+                    }
+                    int id = in.readInt();
+                    int move = in.readUnsignedByte();
+
+                    CompletableFuture<Move> future = pending.remove(id);
+                    if (future == null) {
+                        Integer player = abandoned.remove(id);
+                        if (player != null) {
+                            stalled.remove(player);
+                        }
+                        continue;
+                    }
+                    if (move == FAILED) {
+                        future.completeExceptionally(new IllegalStateException(
+                                jar + ": player failed, see its stderr"));
+                    } else {
+                        future.complete(MOVES[move]);
+                    }
+                }
+            } catch (EOFException ex) {
+                fail(jar + ": host exited");
+            } catch (IOException ex) {
+                fail(jar + ": host unreachable: " + ex.getMessage());
+            }
+        }
+
+        private void fail(String message) {
+            if (failure == null) {
+                logger.log(Level.WARNING, message);
+            }
+            failure = message;
+            for (Integer id : pending.keySet()) {
+                CompletableFuture<Move> future = pending.remove(id);
+                if (future != null) {
+                    future.completeExceptionally(new IllegalStateException(message));
+                }
+            }
+        }
+
+        private void close() {
+            // Not a failure, the host is told to exit
+            failure = jar + ": sandbox closed";
+            requests.add(STOP_REQUEST);
+            try {
+                if (!process.waitFor(5, TimeUnit.SECONDS)) {
+                    process.destroyForcibly();
+                }
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                process.destroyForcibly();
+            }
+        }
+    }
+}
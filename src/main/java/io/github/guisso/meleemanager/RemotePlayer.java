@@ -0,0 +1,83 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2025 Luis Guisso &lt;luis.guisso at ifnmg.edu.br&gt;.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package io.github.guisso.meleemanager;
+
+import io.github.guisso.jankenpon.AbstractPlayer;
+import io.github.guisso.jankenpon.Move;
+
+/**
+ * Stand-in for a player that lives in a {@link PlayerHost} process.
+ * <p>
+ * Every {@link #makeMyMove(Move)} is sent to the host and waits for its
+ * answer up to the sandbox's move timeout, while the calls of other threads
+ * share the same pipe. Scores are
+ * kept here as for any other player, so sessions and
+ * {@link JanKenPonManager#melee(AbstractPlayer, AbstractPlayer)} work
+ * unchanged.
+ *
+ * @author Luis Guisso &lt;luis.guisso at ifnmg.edu.br&gt;
+ * @version 0.1
+ * @since 0.1, Oct 18, 2026
+ */
+public final class RemotePlayer
+        extends AbstractPlayer {
+
+    private final PlayerSandbox.Channel channel;
+    private final int index;
+    private final String className;
+    private final String developerName;
+
+    RemotePlayer(PlayerSandbox.Channel channel, int index, String className,
+            String developerName) {
+        this.channel = channel;
+        this.index = index;
+        this.className = className;
+        this.developerName = developerName;
+    }
+
+    @Override
+    public String getDeveloperName() {
+        return developerName;
+    }
+
+    /**
+     * Asks the host for a move
+     *
+     * @return The move, {@link Move#NONE} if the host missed the deadline
+     * or the player is still making a late move
+     * @throws IllegalStateException If the host failed to make the move or
+     * is gone
+     */
+    @Override
+    public Move makeMyMove(Move opponentPreviousMove) {
+        return channel.move(index, opponentPreviousMove);
+    }
+
+    /**
+     * @return Class of the player in the host
+     */
+    public String getClassName() {
+        return className;
+    }
+}
@@ -0,0 +1,118 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2025 Luis Guisso &lt;luis.guisso at ifnmg.edu.br&gt;.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package io.github.guisso.meleemanager;
+
+import io.github.guisso.jankenpon.AbstractPlayer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.function.IntFunction;
+
+/**
+ * Every player faces every other one, ranked by the sum of its points.
+ * <p>
+ * The schedule is handed to the runner in batches of {@value #BATCH}
+ * melees, so a lazy {@link Pairings} schedule is never stored whole.
+ *
+ * @author Luis Guisso &lt;luis.guisso at ifnmg.edu.br&gt;
+ * @version 0.1
+ * @since 0.1, Oct 18, 2026
+ */
+public final class RoundRobinFormat
+        implements TournamentFormat {
+
+    // Melees scheduled at once
+    private static final int BATCH = 1 << 16;
+
+    private final IntFunction<AbstractPlayer[]> melees;
+    private final int totalMelees;
+    private BitSet completed;
+    private Map<AbstractPlayer, Long> initialScores;
+
+    /**
+     * @param melees Pair players, in the order they must be played
+     */
+    public RoundRobinFormat(AbstractPlayer[][] melees) {
+        this.melees = melee -> melees[melee];
+        this.totalMelees = melees.length;
+    }
+
+    /**
+     * @param pairings Schedule, computed as the melees are played
+     */
+    public RoundRobinFormat(Pairings pairings) {
+        if (pairings.size() > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Too many melees: " + pairings.size());
+        }
+
+        this.melees = pairings::get;
+        this.totalMelees = (int) pairings.size();
+    }
+
+    /**
+     * Continues an interrupted tournament
+     *
+     * @param completed Schedule positions already played, skipped
+     * @param scores Points of each player in them
+     */
+    public void resume(BitSet completed, Map<AbstractPlayer, Long> scores) {
+        this.completed = completed;
+        this.initialScores = scores;
+    }
+
+    @Override
+    public List<Standing> play(List<AbstractPlayer> players, MeleeRunner runner)
+            throws InterruptedException, ExecutionException {
+
+        Map<AbstractPlayer, Long> scores = new IdentityHashMap<>();
+        if (initialScores != null) {
+            scores.putAll(initialScores);
+        }
+
+        for (int first = 0; first < totalMelees; first += BATCH) {
+            int last = Math.min(totalMelees, first + BATCH);
+            List<AbstractPlayer[]> batch = new ArrayList<>(last - first);
+            int[] numbers = new int[last - first];
+            for (int melee = first; melee < last; melee++) {
+                if (completed == null || !completed.get(melee)) {
+                    numbers[batch.size()] = melee;
+                    batch.add(melees.apply(melee));
+                }
+            }
+            MeleeRunner.addScores(scores, runner.play(batch,
+                    Arrays.copyOf(numbers, batch.size())));
+        }
+
+        return Standing.rank(players, scores);
+    }
+
+    @Override
+    public long maxMelees(int players) {
+        return totalMelees;
+    }
+}
@@ -0,0 +1,71 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2025 Luis Guisso &lt;luis.guisso at ifnmg.edu.br&gt;.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package io.github.guisso.meleemanager;
+
+import io.github.guisso.jankenpon.AbstractPlayer;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Final score of a player in a tournament
+ *
+ * @param player The player
+ * @param score Sum of the points in all its melees
+ *
+ * @author Luis Guisso &lt;luis.guisso at ifnmg.edu.br&gt;
+ * @version 0.1
+ * @since 0.1, Oct 18, 2026
+ */
+public record Standing(AbstractPlayer player, long score) {
+
+    /**
+     * Highest score first, ties broken by name
+     */
+    public static final Comparator<Standing> RANKING = Comparator
+            .comparingLong(Standing::score).reversed()
+            .thenComparing(s -> s.player().getDeveloperName())
+            .thenComparing(s -> Players.className(s.player()));
+
+    /**
+     * @param players All players
+     * @param scores Score of each player, missing for none
+     * @return Standings of all players, in {@link #RANKING} order
+     */
+    public static List<Standing> rank(List<AbstractPlayer> players,
+            Map<AbstractPlayer, Long> scores) {
+        List<Standing> standings = new ArrayList<>(players.size());
+        for (AbstractPlayer player : players) {
+            standings.add(new Standing(player, scores.getOrDefault(player, 0L)));
+        }
+        standings.sort(RANKING);
+        return standings;
+    }
+
+    @Override
+    public String toString() {
+        return player.getDeveloperName() + " (" + score + ")";
+    }
+}
@@ -0,0 +1,159 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2025 Luis Guisso &lt;luis.guisso at ifnmg.edu.br&gt;.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package io.github.guisso.meleemanager;
+
+import io.github.guisso.jankenpon.AbstractPlayer;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+
+/**
+ * Swiss system: a fixed number of rounds, each one pairing players of
+ * similar standings.
+ * <p>
+ * Every round ranks the players by the points of the tournament so far and
+ * pairs each unpaired player, from the top, with the next one it has not
+ * faced yet. With an odd field the lowest ranked player without a bye sits
+ * out the round. Takes about {@code n/2 log2(n)} melees to rank {@code n}
+ * players.
+ *
+ * @author Luis Guisso &lt;luis.guisso at ifnmg.edu.br&gt;
+ * @version 0.1
+ * @since 0.1, Oct 18, 2026
+ */
+public final class SwissFormat
+        implements TournamentFormat {
+
+    private final int rounds;
+
+    /**
+     * Enough rounds to tell apart every player, log2 of the field
+     */
+    public SwissFormat() {
+        this(0);
+    }
+
+    /**
+     * @param rounds Number of rounds, 0 for log2 of the field
+     */
+    public SwissFormat(int rounds) {
+        if (rounds < 0) {
+            throw new IllegalArgumentException("Rounds must not be negative");
+        }
+        this.rounds = rounds;
+    }
+
+    @Override
+    public List<Standing> play(List<AbstractPlayer> players, MeleeRunner runner)
+            throws InterruptedException, ExecutionException {
+
+        Map<AbstractPlayer, Long> scores = new IdentityHashMap<>();
+        Map<AbstractPlayer, Integer> seeds = new IdentityHashMap<>();
+        for (int i = 0; i < players.size(); i++) {
+            seeds.put(players.get(i), i);
+        }
+
+        // Pairs already played, as seed indexes
+        Set<Long> played = new HashSet<>();
+        Set<AbstractPlayer> byes = Collections.newSetFromMap(
+                new IdentityHashMap<>());
+
+        List<Standing> standings = Standing.rank(players, scores);
+        for (int round = 0; round < rounds(players.size()); round++) {
+            List<AbstractPlayer> ranking = new ArrayList<>(players.size());
+            for (Standing standing : standings) {
+                ranking.add(standing.player());
+            }
+
+            if (ranking.size() % 2 != 0) {
+                int bye = ranking.size() - 1;
+                for (int i = bye; i >= 0; i--) {
+                    if (!byes.contains(ranking.get(i))) {
+                        bye = i;
+                        break;
+                    }
+                }
+                byes.add(ranking.remove(bye));
+            }
+
+            List<AbstractPlayer[]> batch = new ArrayList<>(ranking.size() / 2);
+            boolean[] paired = new boolean[ranking.size()];
+            for (int i = 0; i < ranking.size(); i++) {
+                if (paired[i]) {
+                    continue;
+                }
+
+                // Next unpaired player not faced yet, or just the next one
+                int opponent = -1;
+                for (int j = i + 1; j < ranking.size(); j++) {
+                    if (!paired[j]) {
+                        if (opponent < 0) {
+                            opponent = j;
+                        }
+                        if (!played.contains(key(seeds,
+                                ranking.get(i), ranking.get(j)))) {
+                            opponent = j;
+                            break;
+                        }
+                    }
+                }
+
+                paired[i] = true;
+                paired[opponent] = true;
+                played.add(key(seeds, ranking.get(i), ranking.get(opponent)));
+                batch.add(new AbstractPlayer[]{
+                    ranking.get(i), ranking.get(opponent)});
+            }
+
+            MeleeRunner.addScores(scores, runner.play(batch));
+            standings = Standing.rank(players, scores);
+        }
+
+        return standings;
+    }
+
+    @Override
+    public long maxMelees(int players) {
+        return (long) rounds(players) * (players / 2);
+    }
+
+    private int rounds(int players) {
+        if (rounds > 0) {
+            return rounds;
+        }
+        return players < 2 ? 0 : 32 - Integer.numberOfLeadingZeros(players - 1);
+    }
+
+    private static long key(Map<AbstractPlayer, Integer> seeds,
+            AbstractPlayer a, AbstractPlayer b) {
+        int first = seeds.get(a);
+        int second = seeds.get(b);
+        return (long) Math.min(first, second) << 32 | Math.max(first, second);
+    }
+}
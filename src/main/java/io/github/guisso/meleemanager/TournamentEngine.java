@@ -0,0 +1,237 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2025 Luis Guisso &lt;luis.guisso at ifnmg.edu.br&gt;.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package io.github.guisso.meleemanager;
+
+import io.github.guisso.jankenpon.AbstractPlayer;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Headless tournament runner.
+ * <p>
+ * Plays a {@link TournamentFormat}, a round-robin schedule by default,
+ * through a {@link MeleeRunner}. Every melee runs in its own
+ * {@link MeleeSession}, in parallel with the melees of other players, and
+ * scores are summed per player, so the final standings do not depend on
+ * thread timing.
+ *
+ * @author Luis Guisso &lt;luis.guisso at ifnmg.edu.br&gt;
+ * @version 0.1
+ * @since 0.1, Oct 18, 2026
+ */
+public final class TournamentEngine {
+
+    /**
+     * Notified from the worker threads as melees finish
+     */
+    @FunctionalInterface
+    public interface Listener {
+
+        /**
+         * @param melee Schedule position
+         * @param session The finished melee, no longer modified
+         */
+        void meleeFinished(int melee, MeleeSession session);
+
+        /**
+         * @param next Notified after this one, null for none
+         * @return A listener that notifies both
+         */
+        default Listener andThen(Listener next) {
+            if (next == null) {
+                return this;
+            }
+            return (melee, session) -> {
+                meleeFinished(melee, session);
+                next.meleeFinished(melee, session);
+            };
+        }
+    }
+
+    private final List<AbstractPlayer> players;
+    private final TournamentFormat format;
+    private final int parallelism;
+    private MoveWatchdog watchdog;
+    private MatchLog matchLog;
+    private MatchRecordWriter matchRecords;
+    private Listener listener;
+    private EarlyStop earlyStop;
+    private PlayerFactory factory;
+    private int melees;
+    private long turnsSaved;
+
+    /**
+     * @param players All players
+     * @param melees Pair players, in the order they must be played
+     * @param parallelism Number of worker threads
+     */
+    public TournamentEngine(List<AbstractPlayer> players,
+            AbstractPlayer[][] melees, int parallelism) {
+        this(players, new RoundRobinFormat(melees), parallelism);
+    }
+
+    /**
+     * @param players All players
+     * @param pairings Schedule, computed as the melees are played
+     * @param parallelism Number of worker threads
+     */
+    public TournamentEngine(List<AbstractPlayer> players,
+            Pairings pairings, int parallelism) {
+        this(players, new RoundRobinFormat(pairings), parallelism);
+    }
+
+    /**
+     * @param players All players, in seeding order
+     * @param format Melees to play and ranking
+     * @param parallelism Number of worker threads
+     */
+    public TournamentEngine(List<AbstractPlayer> players,
+            TournamentFormat format, int parallelism) {
+        if (parallelism < 1) {
+            throw new IllegalArgumentException("Parallelism must be positive");
+        }
+
+        this.players = List.copyOf(players);
+        this.format = format;
+        this.parallelism = parallelism;
+    }
+
+    /**
+     * Bounds every move by a deadline and every melee by a CPU budget
+     *
+     * @param watchdog Watchdog, or null to run moves on the worker threads
+     */
+    public void setWatchdog(MoveWatchdog watchdog) {
+        this.watchdog = watchdog;
+    }
+
+    /**
+     * Records every turn of every melee, numbered by schedule position
+     *
+     * @param matchLog Destination of the records, null for none
+     */
+    public void setMatchLog(MatchLog matchLog) {
+        this.matchLog = matchLog;
+    }
+
+    /**
+     * Writes the moves of every melee as it finishes
+     *
+     * @param matchRecords Destination of the records, null for none
+     */
+    public void setMatchRecords(MatchRecordWriter matchRecords) {
+        this.matchRecords = matchRecords;
+    }
+
+    /**
+     * @param listener Notified as melees finish, null for none
+     */
+    public void setListener(Listener listener) {
+        this.listener = listener;
+    }
+
+    /**
+     * Ends melees once their winner is known, with extrapolated scores
+     *
+     * @param earlyStop The test, null to play all the turns
+     */
+    public void setEarlyStop(EarlyStop earlyStop) {
+        this.earlyStop = earlyStop;
+    }
+
+    /**
+     * Plays every melee with new player instances, in any order
+     *
+     * @param factory Makes the instances, null to let the players play all
+     * their melees
+     */
+    public void setPlayerFactory(PlayerFactory factory) {
+        this.factory = factory;
+    }
+
+    /**
+     * Pairs every player with every other one
+     *
+     * @param players All players
+     * @return All pair players
+     */
+    public static AbstractPlayer[][] roundRobin(List<AbstractPlayer> players) {
+        int totalMelees = (players.size() * (players.size() - 1)) / 2;
+        AbstractPlayer[][] melees = new AbstractPlayer[totalMelees][2];
+
+        int count = 0;
+        for (int i = 0; i < players.size(); i++) {
+            // You x You?? No: j = i + 1, Yes: j = i <-- update totalMelees (!)
+            for (int j = i + 1; j < players.size(); j++) {
+                melees[count][0] = players.get(i);
+                melees[count][1] = players.get(j);
+                count++;
+            }
+        }
+
+        return melees;
+    }
+
+    /**
+     * Runs all the melees
+     *
+     * @return Players in the order of the format, by default by total score
+     * with ties broken by name
+     * @throws InterruptedException If interrupted while waiting the workers
+     * @throws ExecutionException If a player fails to make a move, or the
+     * match records can not be written
+     */
+    public List<Standing> run()
+            throws InterruptedException, ExecutionException {
+
+        ForkJoinPool pool = new ForkJoinPool(parallelism);
+
+        MeleeRunner runner = new MeleeRunner(
+                pool, watchdog, matchLog, matchRecords, listener, earlyStop,
+                factory);
+        try {
+            return format.play(players, runner);
+        } finally {
+            melees = runner.getMelees();
+            turnsSaved = runner.getTurnsSaved();
+            pool.shutdown();
+        }
+    }
+
+    /**
+     * @return Number of melees of the last {@link #run()}
+     */
+    public int getMelees() {
+        return melees;
+    }
+
+    /**
+     * @return Turns not played because of the early stop in the last
+     * {@link #run()}
+     */
+    public long getTurnsSaved() {
+        return turnsSaved;
+    }
+}
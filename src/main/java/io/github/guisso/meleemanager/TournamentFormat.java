@@ -0,0 +1,59 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2025 Luis Guisso &lt;luis.guisso at ifnmg.edu.br&gt;.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package io.github.guisso.meleemanager;
+
+import io.github.guisso.jankenpon.AbstractPlayer;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+
+/**
+ * Decides which melees are played and how players are ranked.
+ * <p>
+ * Formats hand their melees to a {@link MeleeRunner}, batch by batch, and
+ * may choose the next batch from the results of the previous ones.
+ *
+ * @author Luis Guisso &lt;luis.guisso at ifnmg.edu.br&gt;
+ * @version 0.1
+ * @since 0.1, Oct 18, 2026
+ */
+public interface TournamentFormat {
+
+    /**
+     * Plays the tournament
+     *
+     * @param players All players, in seeding order
+     * @param runner Plays the melees
+     * @return Every player, best ranked first, with the sum of its points
+     * @throws InterruptedException If interrupted while waiting the workers
+     * @throws ExecutionException If a melee fails
+     */
+    List<Standing> play(List<AbstractPlayer> players, MeleeRunner runner)
+            throws InterruptedException, ExecutionException;
+
+    /**
+     * @param players Number of players
+     * @return Most melees the tournament may play, to size match records
+     */
+    long maxMelees(int players);
+}
@@ -0,0 +1,153 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2025 Luis Guisso &lt;luis.guisso at ifnmg.edu.br&gt;.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package io.github.guisso.meleemanager;
+
+import io.github.guisso.jankenpon.AbstractPlayer;
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.FileDescriptor;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Worker process of a {@link Coordinator}: loads the players, then plays
+ * the units of the schedule it is sent over stdin and answers over stdout.
+ * <p>
+ * Anything else written to {@code System.out}, by the manager or by the
+ * players, goes to stderr so it can not break the protocol.
+ *
+ * @author Luis Guisso &lt;luis.guisso at ifnmg.edu.br&gt;
+ * @version 0.1
+ * @since 0.1, Oct 18, 2026
+ */
+public final class Worker {
+
+    private Worker() {
+    }
+
+    /**
+     * @param args Not used
+     * @throws Exception If players fail to load or to play
+     */
+    public static void main(String[] args)
+            throws Exception {
+
+        DataOutputStream out = new DataOutputStream(new BufferedOutputStream(
+                new FileOutputStream(FileDescriptor.out)));
+        System.setOut(System.err);
+        DataInputStream in = new DataInputStream(
+                new BufferedInputStream(System.in));
+
+        JanKenPonManager.setMatchLog(MatchLog.NONE);
+        List<AbstractPlayer> players = JanKenPonManager.loadPlayers();
+
+        out.writeByte(Coordinator.HELLO);
+        out.writeInt(players.size());
+        for (AbstractPlayer player : players) {
+            out.writeUTF(Players.name(player));
+        }
+        out.flush();
+
+        if (in.readByte() != Coordinator.SETUP) {
+            throw new IOException("Setup expected");
+        }
+        boolean seeded = in.readBoolean();
+        long seed = in.readLong();
+        int threads = in.readInt();
+        long moveTimeout = in.readLong();
+        long cpuBudget = in.readLong();
+
+        Pairings pairings = seeded
+                ? new Pairings(players, seed)
+                : new Pairings(players);
+        MoveWatchdog watchdog = moveTimeout > 0
+                ? new MoveWatchdog(Duration.ofMillis(moveTimeout),
+                        cpuBudget > 0 ? Duration.ofMillis(cpuBudget) : null)
+                : null;
+
+        try {
+            while (true) {
+                byte type;
+                try {
+                    type = in.readByte();
+                } catch (EOFException ex) {
+                    break;
+                }
+                if (type == Coordinator.STOP) {
+                    break;
+                }
+                if (type != Coordinator.UNIT) {
+                    throw new IOException("Unknown message: " + type);
+                }
+
+                int unit = in.readInt();
+                int first = in.readInt();
+                int end = in.readInt();
+                int[] points = play(players, pairings, first, end, threads, watchdog);
+
+                out.writeByte(Coordinator.RESULT);
+                out.writeInt(unit);
+                out.writeInt(end - first);
+                for (int point : points) {
+                    out.writeInt(point);
+                }
+                out.flush();
+            }
+        } finally {
+            if (watchdog != null) {
+                watchdog.close();
+            }
+        }
+    }
+
+    /**
+     * @return Points of player A and player B of each melee
+     */
+    private static int[] play(List<AbstractPlayer> players, Pairings pairings,
+            int first, int end, int threads, MoveWatchdog watchdog)
+            throws Exception {
+
+        AbstractPlayer[][] melees = new AbstractPlayer[end - first][];
+        for (int melee = first; melee < end; melee++) {
+            melees[melee - first] = pairings.get(melee);
+        }
+
+        // Each melee writes its own slots, read after the engine joins
+        int[] points = new int[2 * melees.length];
+        TournamentEngine engine = new TournamentEngine(players, melees, threads);
+        engine.setWatchdog(watchdog);
+        engine.setListener((melee, session) -> {
+            points[2 * melee] = session.getPlayerAScore();
+            points[2 * melee + 1] = session.getPlayerBScore();
+        });
+        engine.run();
+
+        return points;
+    }
+}
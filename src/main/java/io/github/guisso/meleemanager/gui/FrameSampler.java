@@ -0,0 +1,105 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2025 Luis Guisso &lt;luis dot guisso at ifnmg dot edu dot br&gt;.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package io.github.guisso.meleemanager.gui;
+
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+import javax.swing.SwingUtilities;
+
+/**
+ * Shows the latest state published by a simulation at a fixed frame rate.
+ * <p>
+ * Publishing only replaces a reference, so the simulation never waits for
+ * the view. Each frame posts at most one render to the event dispatch
+ * thread; while it is pending, newer states replace the one to be shown
+ * instead of queueing more renders.
+ *
+ * @param <T> Snapshot type
+ *
+ * @author Luis Guisso &lt;luis dot guisso at ifnmg dot edu dot br&gt;
+ * @version 0.1
+ * @since 0.1, Oct 18, 2026
+ */
+public final class FrameSampler<T>
+        implements AutoCloseable {
+
+    private final AtomicReference<T> latest;
+    private final AtomicBoolean renderPending;
+    private final Consumer<T> render;
+    private final ScheduledExecutorService clock;
+
+    /**
+     * @param fps Frames per second
+     * @param render Shows a snapshot, called on the event dispatch thread
+     */
+    public FrameSampler(int fps, Consumer<T> render) {
+        this.latest = new AtomicReference<>();
+        this.renderPending = new AtomicBoolean();
+        this.render = render;
+        this.clock = Executors.newSingleThreadScheduledExecutor(task -> {
+            Thread thread = new Thread(task, "frame-sampler");
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        long period = 1_000_000_000L / fps;
+        clock.scheduleAtFixedRate(this::frame, period, period, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Offers a new state, from any thread
+     *
+     * @param snapshot The state
+     */
+    public void publish(T snapshot) {
+        latest.set(snapshot);
+    }
+
+    /**
+     * Stops sampling and shows the last state published
+     */
+    @Override
+    public void close() {
+        clock.shutdownNow();
+        SwingUtilities.invokeLater(this::show);
+    }
+
+    private void frame() {
+        if (latest.get() != null && renderPending.compareAndSet(false, true)) {
+            SwingUtilities.invokeLater(this::show);
+        }
+    }
+
+    private void show() {
+        renderPending.set(false);
+        T snapshot = latest.getAndSet(null);
+        if (snapshot != null) {
+            render.accept(snapshot);
+        }
+    }
+}
@@ -0,0 +1,127 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2025 Luis Guisso &lt;luis dot guisso at ifnmg dot edu dot br&gt;.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package io.github.guisso.meleemanager.gui;
+
+import io.github.guisso.jankenpon.Result;
+import io.github.guisso.jankenpon.Util;
+import io.github.guisso.meleemanager.Metrics;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import javax.swing.Icon;
+
+/**
+ * Result images rendered once per size.
+ * <p>
+ * Rendering an SVG through Batik is far slower than a turn, so every
+ * (result, size) pair is rendered at most once until the cache is
+ * invalidated.
+ *
+ * @author Luis Guisso &lt;luis dot guisso at ifnmg dot edu dot br&gt;
+ * @version 0.1
+ * @since 0.1, Oct 18, 2026
+ */
+public final class IconCache {
+
+    private record Key(Result result, float size) {
+
+    }
+
+    private final Map<Key, Icon> icons;
+    private final LongAdder hits;
+    private final LongAdder misses;
+
+    public IconCache() {
+        icons = new ConcurrentHashMap<>();
+        hits = new LongAdder();
+        misses = new LongAdder();
+    }
+
+    /**
+     * @param result The result
+     * @param size Image size
+     * @return The image, or null for results without one
+     */
+    public Icon get(Result result, float size) {
+        if (result == null || result.IMAGE_PATH == null) {
+            return null;
+        }
+
+        Key key = new Key(result, size);
+        Icon icon = icons.get(key);
+        if (icon != null) {
+            hits.increment();
+            return icon;
+        }
+
+        return icons.computeIfAbsent(key, k -> {
+            misses.increment();
+            long start = System.nanoTime();
+            Icon rendered = Util.loadImage(k.result().IMAGE_PATH, k.size(), 0);
+            Metrics.getInstance().recordIconRender(System.nanoTime() - start);
+            return rendered;
+        });
+    }
+
+    /**
+     * Renders every result at the given sizes, in parallel
+     *
+     * @param sizes Image sizes
+     */
+    public void prerender(float... sizes) {
+        for (float size : sizes) {
+            Arrays.stream(Result.values())
+                    .parallel()
+                    .forEach(result -> get(result, size));
+        }
+    }
+
+    /**
+     * Drops every image
+     */
+    public void invalidate() {
+        icons.clear();
+    }
+
+    /**
+     * @return Images found in the cache
+     */
+    public long getHits() {
+        return hits.sum();
+    }
+
+    /**
+     * @return Images rendered
+     */
+    public long getMisses() {
+        return misses.sum();
+    }
+
+    @Override
+    public String toString() {
+        return "IconCache[" + icons.size() + " icons, " + getHits()
+                + " hits, " + getMisses() + " misses]";
+    }
+}
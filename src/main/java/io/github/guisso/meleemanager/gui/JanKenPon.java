@@ -25,18 +25,30 @@ package io.github.guisso.meleemanager.gui;
 
 import io.github.guisso.jankenpon.AbstractPlayer;
 import io.github.guisso.jankenpon.Move;
+import io.github.guisso.meleemanager.HeadToHead;
 import io.github.guisso.meleemanager.JanKenPonManager;
+import io.github.guisso.meleemanager.MeleeSession;
+import io.github.guisso.meleemanager.Metrics;
+import io.github.guisso.meleemanager.MoveWatchdog;
+import io.github.guisso.meleemanager.OutcomeTable;
+import io.github.guisso.meleemanager.Pairings;
+import io.github.guisso.meleemanager.PlayerRegistry;
+import io.github.guisso.meleemanager.Standing;
+import io.github.guisso.meleemanager.TournamentEngine;
 import io.github.guisso.jankenpon.Result;
-import io.github.guisso.jankenpon.Util;
+import java.awt.Component;
 import java.io.IOException;
-import java.lang.reflect.InvocationTargetException;
-import java.util.Collections;
-import java.util.Comparator;
+import java.time.Duration;
 import java.util.List;
-import javax.swing.DefaultListModel;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.LongAdder;
+import javax.swing.DefaultListCellRenderer;
 import javax.swing.Icon;
 import javax.swing.JFrame;
-import javax.swing.JLabel;
+import javax.swing.JList;
 import javax.swing.JOptionPane;
 import javax.swing.SwingUtilities;
 import javax.swing.Timer;
@@ -52,13 +64,13 @@ public class JanKenPon
 
     private static int currentMelee;
     private static int totalMelees;
-    private static AbstractPlayer[][] melees;
+    private static Pairings melees;
 
     public static final int MAX_TURNS = JanKenPonManager.TURNS;
     private static int currentTurn;
 
     private List<AbstractPlayer> players;
-    private final DefaultListModel<AbstractPlayer> playersListModel;
+    private final LeaderboardModel playersListModel;
 
     private AbstractPlayer playerA;
     private AbstractPlayer playerB;
@@ -68,24 +80,64 @@ public class JanKenPon
 
     public static final int ROWS = 10;
     public static final int COLUMNS = 20;
-    private static final JLabel[][] MOVES;
 
     private Timer timer;
     public static int DEFAULT_DELAY = 250;
 
-    static {
-        MOVES = new JLabel[ROWS][COLUMNS];
-    }
+    // Longest time a player may hold the event dispatch thread
+    public static int MOVE_TIMEOUT = 100;
+
+    // Turbo mode: full speed simulation, sampled by the view
+    public static final int TURBO_FPS = 30;
+    private FrameSampler<MeleeSession> turbo;
+    private Map<AbstractPlayer, LongAdder> turboScores;
+    private Set<AbstractPlayer> turboChanged;
+
+    // Who beat whom, logged at the end of a tournament
+    private HeadToHead headToHead;
+
+    // Applies changes of the players' directory between tournaments
+    private final PlayerRegistry.Listener playersWatcher
+            = (jarName, removed, added)
+            -> SwingUtilities.invokeLater(this::refreshPlayers);
+
+    // Whether the stepped tournament still holds the registry's players
+    private boolean steppingAcquired;
+
+    // Size of the current turn image
+    public static final float CURRENT_TURN_SIZE = 200f;
+    private final IconCache icons;
 
     /**
      * Creates new form JanKenPon
      */
     public JanKenPon() {
-        playersListModel = new DefaultListModel<>();
+        // Visible through JMX, e.g. in JConsole
+        Metrics.getInstance().enable();
+
+        playersListModel = new LeaderboardModel(AbstractPlayer::getTotaScore);
+
+        icons = new IconCache();
+        Thread.ofVirtual().start(() -> icons.prerender(CURRENT_TURN_SIZE));
 
         initComponents();
 
-        initilizeAllMoves();
+        // Turbo scores are kept apart from the players' own scores
+        lstPlayers.setCellRenderer(new DefaultListCellRenderer() {
+            @Override
+            public Component getListCellRendererComponent(JList<?> list,
+                    Object value, int index, boolean isSelected, boolean cellHasFocus) {
+                Map<AbstractPlayer, LongAdder> scores = turboScores;
+                if (scores != null && value instanceof AbstractPlayer player) {
+                    value = player.getDeveloperName() + " (" + scores.get(player).sum() + ")";
+                }
+                return super.getListCellRendererComponent(
+                        list, value, index, isSelected, cellHasFocus);
+            }
+        });
+
+        JanKenPonManager.setMoveWatchdog(
+                new MoveWatchdog(Duration.ofMillis(MOVE_TIMEOUT), null));
 
         SwingUtilities.invokeLater(() -> {
             setExtendedState(JFrame.MAXIMIZED_BOTH);
@@ -97,7 +149,7 @@ public class JanKenPon
     // <editor-fold defaultstate="collapsed" desc="Generated Code">//GEN-BEGIN:initComponents
     private void initComponents() {
 
-        pnlMelees = new javax.swing.JPanel();
+        pnlMelees = new MeleeGrid(ROWS, COLUMNS, 4, 2);
         pnlRealtimeDispute = new javax.swing.JPanel();
         pnlPlayerA = new javax.swing.JPanel();
         lblPlayerA = new javax.swing.JLabel();
@@ -115,14 +167,14 @@ public class JanKenPon
         mnuFileDelay250 = new javax.swing.JMenuItem();
         mnuFileDelay500 = new javax.swing.JMenuItem();
         mnuFileStartTournament = new javax.swing.JMenuItem();
+        mnuFileTurbo = new javax.swing.JMenuItem();
+        mnuFileWatch = new javax.swing.JCheckBoxMenuItem();
         mnuHelp = new javax.swing.JMenu();
         mnuHelpAbout = new javax.swing.JMenuItem();
 
         setDefaultCloseOperation(javax.swing.WindowConstants.EXIT_ON_CLOSE);
         setTitle("JanKenPon");
 
-        pnlMelees.setLayout(new java.awt.GridLayout(10, 20, 4, 2));
-
         pnlPlayerA.setLayout(new java.awt.BorderLayout());
 
         lblPlayerA.setFont(new java.awt.Font("Segoe UI", 1, 36)); // NOI18N
@@ -200,6 +252,22 @@ public class JanKenPon
         });
         mnuFile.add(mnuFileStartTournament);
 
+        mnuFileTurbo.setText("Turbo");
+        mnuFileTurbo.addActionListener(new java.awt.event.ActionListener() {
+            public void actionPerformed(java.awt.event.ActionEvent evt) {
+                mnuFileTurboActionPerformed(evt);
+            }
+        });
+        mnuFile.add(mnuFileTurbo);
+
+        mnuFileWatch.setText("Watch players");
+        mnuFileWatch.addActionListener(new java.awt.event.ActionListener() {
+            public void actionPerformed(java.awt.event.ActionEvent evt) {
+                mnuFileWatchActionPerformed(evt);
+            }
+        });
+        mnuFile.add(mnuFileWatch);
+
         mnuMainBar.add(mnuFile);
 
         mnuHelp.setText("Help");
@@ -255,11 +323,44 @@ public class JanKenPon
         try {
             startMelees();
         } catch (Exception ex) {
-            System.getLogger(JanKenPon.class.getName())
-                    .log(System.Logger.Level.ERROR, (String) null, ex);
+            logger.log(java.util.logging.Level.SEVERE, null, ex);
         }
     }//GEN-LAST:event_mnuFileStartTournamentActionPerformed
 
+    private void mnuFileTurboActionPerformed(java.awt.event.ActionEvent evt) {//GEN-FIRST:event_mnuFileTurboActionPerformed
+        if (turbo != null) {
+            return;
+        }
+
+        if (timer != null && timer.isRunning()) {
+            mnuFileStartTournament.setText("Start again");
+            timer.stop();
+        }
+
+        try {
+            startTurbo();
+        } catch (Exception ex) {
+            logger.log(java.util.logging.Level.SEVERE, null, ex);
+        }
+    }//GEN-LAST:event_mnuFileTurboActionPerformed
+
+    private void mnuFileWatchActionPerformed(java.awt.event.ActionEvent evt) {//GEN-FIRST:event_mnuFileWatchActionPerformed
+        try {
+            loadPlayers();
+            PlayerRegistry registry = JanKenPonManager.getRegistry();
+            if (mnuFileWatch.isSelected()) {
+                registry.addListener(playersWatcher);
+                registry.watch();
+            } else {
+                registry.removeListener(playersWatcher);
+                registry.unwatch();
+            }
+        } catch (Exception ex) {
+            mnuFileWatch.setSelected(false);
+            logger.log(java.util.logging.Level.SEVERE, null, ex);
+        }
+    }//GEN-LAST:event_mnuFileWatchActionPerformed
+
     private void mnuFileDelay100ActionPerformed(java.awt.event.ActionEvent evt) {//GEN-FIRST:event_mnuFileDelay100ActionPerformed
         adjustDelay(100);
     }//GEN-LAST:event_mnuFileDelay100ActionPerformed
@@ -277,6 +378,10 @@ public class JanKenPon
                                             Press "File/Start tournament" to first start
                                             or press "File/Pause" to pause the execution
                                             or press "File/Start again" to resume.
+                                            Press "File/Turbo" to run the whole tournament
+                                            at full speed.
+                                            Check "File/Watch players" to pick up new or
+                                            changed jars between tournaments.
                                             
                                             👨‍💻 Guisso
                                             """,
@@ -293,39 +398,22 @@ public class JanKenPon
             throws Exception {
 
         // Stop if players fail to load
-        try {
-            if (players == null || players.isEmpty()) {
-                players = JanKenPonManager.loadPlayers();
-                playersListModel.addAll(players);
-            }
+        loadPlayers();
 
-        } catch (ClassNotFoundException | IOException | NoSuchMethodException | InstantiationException | IllegalAccessException | IllegalArgumentException | InvocationTargetException ex) {
-            throw new Exception("Não foi possível carregar os competidores");
-        }
+        // Players' own scores are shown again
+        showOwnScores();
 
         // Organize the melees for first time
-        if (currentMelee == 0) {
-            // Start configuration
-            totalMelees = (players.size() * (players.size() - 1)) / 2;
-            melees = new AbstractPlayer[totalMelees][2];
-
-            // Sets up all the melees
-            int count = 0;
-            for (int i = 0; i < players.size(); i++) {
-                // You x You?? No: j = i + 1, Yes: j = i <-- update totalMelees (!)
-                for (int j = i + 1; j < players.size(); j++) {
-
-                    // Store couple players
-                    melees[count][0] = players.get(i);
-                    melees[count][1] = players.get(j);
-
-                    // Next melee...
-                    count++;
-                }
-            }
+        if (currentMelee == 0 && timer == null) {
+            // Loaders of replaced players stay open until the end
+            players = JanKenPonManager.getRegistry().acquire();
+            playersListModel.setPlayers(players);
+            steppingAcquired = true;
 
-            // Randomize the melees
-            JanKenPonManager.randomize(melees);
+            // Sets up all the melees, in random order
+            melees = new Pairings(players, JanKenPonManager.newSeed());
+            totalMelees = (int) melees.size();
+            headToHead = new HeadToHead(players);
 
             timer = new Timer(DEFAULT_DELAY, e -> {
 
@@ -340,17 +428,24 @@ public class JanKenPon
                     lblCurrentTurn.setIcon(Result.SCISSORS_SCISSORS_TIE.IMAGE);
 
                     // Log
-                    for (AbstractPlayer player : players) {
+                    for (AbstractPlayer player : playersListModel.getRanking()) {
                         System.out.println(player);
                     }
+                    logHeadToHead(headToHead);
+                    logger.fine(icons::toString);
+                    if (steppingAcquired) {
+                        steppingAcquired = false;
+                        JanKenPonManager.getRegistry().release();
+                    }
 
                     return;
                 }
 
                 // Update the players' name
                 if (currentTurn == 0) {
-                    playerA = melees[currentMelee][0];
-                    playerB = melees[currentMelee][1];
+                    AbstractPlayer[] pair = melees.get(currentMelee);
+                    playerA = pair[0];
+                    playerB = pair[1];
 
                     lblPlayerA.setText(playerA.getDeveloperName());
                     lblPlayerB.setText(playerB.getDeveloperName());
@@ -360,50 +455,31 @@ public class JanKenPon
                             + "," + playerB.getDeveloperName());
                 }
 
-                // Log
-                System.out.printf("%d,%d,",
-                        currentMelee,
-                        currentTurn);
-
                 //Run the melee and store the image result
-                // melee() prints ..,points,move,move,points\n
+                // melee() logs melee,turn,points,move,move,points
                 Result result = JanKenPonManager.melee(playerA, playerB);
 
-                String imagePath
-                        = result == null
-                                ? null
-                                : result.IMAGE_PATH;
-
-                Icon currentResult
-                        = imagePath == null
-                                ? null
-                                : Util.loadImage(imagePath, 200f, 0);
+                Icon currentResult = icons.get(result, CURRENT_TURN_SIZE);
 
                 // Show the moves
-                int row = currentTurn / COLUMNS;
-                int column = currentTurn % COLUMNS;
-
                 lblCurrentTurn.setIcon(currentResult);
-                MOVES[row][column].setIcon(result.IMAGE);
+                pnlMelees.setResult(currentTurn, result);
 
                 // Update the scores
                 lblPlayerAScore.setText(Integer.toString(playerA.getTotaScore()));
                 lblPlayerBScore.setText(Integer.toString(playerB.getTotaScore()));
 
                 // Update the result list
-                Collections.sort(players,
-                        Comparator.comparing(AbstractPlayer::getTotaScore)
-                                .reversed());
-                playersListModel.clear();
-                playersListModel.addAll(players);
-//                playersListModel.notifyDataUpdate();
+                playersListModel.update(playerA);
+                playersListModel.update(playerB);
 
                 // Next turn
                 if (++currentTurn >= MAX_TURNS) {
+                    headToHead.meleeFinished(currentMelee,
+                            JanKenPonManager.getSession());
                     currentTurn = 0;
                     currentMelee++;
-                    Move.resetConsecutiveWins();
-                    initilizeAllMoves();
+                    pnlMelees.clear();
                 }
             });
 
@@ -414,6 +490,160 @@ public class JanKenPon
         timer.start();
     }
 
+    /**
+     * Runs a whole round-robin on background threads, showing the latest
+     * finished melee at {@link #TURBO_FPS} frames per second
+     *
+     * @throws Exception If players fail to load
+     */
+    public void startTurbo()
+            throws Exception {
+
+        loadPlayers();
+        PlayerRegistry registry = JanKenPonManager.getRegistry();
+        players = registry.acquire();
+        // The previous run's scores may lack players added since
+        showOwnScores();
+        playersListModel.setPlayers(players);
+
+        Map<AbstractPlayer, LongAdder> scores = new ConcurrentHashMap<>();
+        for (AbstractPlayer player : players) {
+            scores.put(player, new LongAdder());
+        }
+        turboScores = scores;
+        turboChanged = ConcurrentHashMap.newKeySet();
+        playersListModel.setScore(player -> scores.get(player).sum());
+
+        Pairings schedule = new Pairings(players, JanKenPonManager.newSeed());
+
+        TournamentEngine engine = new TournamentEngine(players, schedule,
+                Runtime.getRuntime().availableProcessors());
+        turbo = new FrameSampler<>(TURBO_FPS, this::showTurbo);
+        HeadToHead matrix = new HeadToHead(players);
+
+        engine.setListener((melee, session) -> {
+            matrix.meleeFinished(melee, session);
+            scores.get(session.getPlayerA()).add(session.getPlayerAScore());
+            scores.get(session.getPlayerB()).add(session.getPlayerBScore());
+            turboChanged.add(session.getPlayerA());
+            turboChanged.add(session.getPlayerB());
+            turbo.publish(session);
+        });
+
+        mnuFileStartTournament.setEnabled(false);
+        mnuFileTurbo.setEnabled(false);
+
+        Thread.ofPlatform().daemon().name("turbo").start(() -> {
+            try {
+                List<Standing> standings = engine.run();
+
+                // Log
+                for (Standing standing : standings) {
+                    System.out.println(standing);
+                }
+                logHeadToHead(matrix);
+            } catch (InterruptedException | ExecutionException ex) {
+                logger.log(java.util.logging.Level.SEVERE, null, ex);
+            } finally {
+                registry.release();
+                turbo.close();
+                SwingUtilities.invokeLater(() -> {
+                    turbo = null;
+                    mnuFileStartTournament.setEnabled(true);
+                    mnuFileTurbo.setEnabled(true);
+                });
+            }
+        });
+    }
+
+    /**
+     * Loads the players on first use
+     *
+     * @throws Exception If players fail to load
+     */
+    private void loadPlayers()
+            throws Exception {
+        try {
+            if (players == null || players.isEmpty()) {
+                players = JanKenPonManager.loadPlayers();
+                playersListModel.setPlayers(players);
+            }
+        } catch (IOException | ReflectiveOperationException ex) {
+            throw new Exception("Não foi possível carregar os competidores");
+        }
+    }
+
+    /**
+     * Shows the players of a changed directory, unless a tournament is
+     * running; it then gets them when the next one starts
+     */
+    private void refreshPlayers() {
+        boolean stepping = timer != null && currentMelee < totalMelees;
+        if (turbo != null || stepping) {
+            return;
+        }
+
+        // Turbo scores of the last run do not know the new players
+        showOwnScores();
+        players = JanKenPonManager.getRegistry().getPlayers();
+        playersListModel.setPlayers(players);
+    }
+
+    /**
+     * Ranks the players by their own scores instead of the last Turbo run
+     */
+    private void showOwnScores() {
+        if (turboScores != null) {
+            turboScores = null;
+            playersListModel.setScore(AbstractPlayer::getTotaScore);
+        }
+    }
+
+    /**
+     * Prints who beat whom and how each player moved
+     */
+    private static void logHeadToHead(HeadToHead headToHead) {
+        try {
+            headToHead.writeCsv(System.out);
+            headToHead.writeMovesCsv(System.out);
+        } catch (IOException ex) {
+            logger.log(java.util.logging.Level.WARNING, null, ex);
+        }
+    }
+
+    /**
+     * Shows a finished melee and the current standings
+     */
+    private void showTurbo(MeleeSession session) {
+        lblPlayerA.setText(session.getPlayerA().getDeveloperName());
+        lblPlayerB.setText(session.getPlayerB().getDeveloperName());
+        lblPlayerAScore.setText(Integer.toString(session.getPlayerAScore()));
+        lblPlayerBScore.setText(Integer.toString(session.getPlayerBScore()));
+
+        OutcomeTable outcomes = OutcomeTable.getInstance();
+        Move[] moves = Move.values();
+        byte[] playerAMoves = session.getPlayerAMoves();
+        byte[] playerBMoves = session.getPlayerBMoves();
+        Result result = Result.NONE;
+
+        for (int turn = 0; turn < MAX_TURNS; turn++) {
+            if (turn < session.getCurrentTurn()) {
+                result = outcomes.result(
+                        moves[playerAMoves[turn]], moves[playerBMoves[turn]]);
+                pnlMelees.setResult(turn, result);
+            } else {
+                pnlMelees.setResult(turn, null);
+            }
+        }
+        lblCurrentTurn.setIcon(icons.get(result, CURRENT_TURN_SIZE));
+
+        // Update the result list
+        for (AbstractPlayer player : turboChanged) {
+            turboChanged.remove(player);
+            playersListModel.update(player);
+        }
+    }
+
     /**
      * @param args the command line arguments
      */
@@ -440,17 +670,6 @@ public class JanKenPon
 
     }
 
-    private void initilizeAllMoves() {
-        // Initialize all moves
-        pnlMelees.removeAll();
-        for (int i = 0; i < ROWS; i++) {
-            for (int j = 0; j < COLUMNS; j++) {
-                MOVES[i][j] = new JLabel();
-                pnlMelees.add(MOVES[i][j]);
-            }
-        }
-    }
-
     // Variables declaration - do not modify//GEN-BEGIN:variables
     private javax.swing.JLabel lblCurrentTurn;
     private javax.swing.JLabel lblPlayerA;
@@ -464,10 +683,12 @@ public class JanKenPon
     private javax.swing.JMenuItem mnuFileDelay250;
     private javax.swing.JMenuItem mnuFileDelay500;
     private javax.swing.JMenuItem mnuFileStartTournament;
+    private javax.swing.JMenuItem mnuFileTurbo;
+    private javax.swing.JCheckBoxMenuItem mnuFileWatch;
     private javax.swing.JMenu mnuHelp;
     private javax.swing.JMenuItem mnuHelpAbout;
     private javax.swing.JMenuBar mnuMainBar;
-    private javax.swing.JPanel pnlMelees;
+    private io.github.guisso.meleemanager.gui.MeleeGrid pnlMelees;
     private javax.swing.JPanel pnlPlayerA;
     private javax.swing.JPanel pnlPlayerB;
     private javax.swing.JPanel pnlRealtimeDispute;
@@ -0,0 +1,172 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2025 Luis Guisso &lt;luis dot guisso at ifnmg dot edu dot br&gt;.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package io.github.guisso.meleemanager.gui;
+
+import io.github.guisso.jankenpon.AbstractPlayer;
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.ToLongFunction;
+import javax.swing.AbstractListModel;
+
+/**
+ * Players ranked by score, highest first, updated one player at a time.
+ * <p>
+ * {@link #update(AbstractPlayer)} moves a player to its new rank with a
+ * binary search and fires events for that player only, instead of the full
+ * relayout caused by clearing and refilling the list. Players with the same
+ * score keep their relative order. Must be used on the event dispatch
+ * thread.
+ *
+ * @author Luis Guisso &lt;luis dot guisso at ifnmg dot edu dot br&gt;
+ * @version 0.1
+ * @since 0.1, Oct 18, 2026
+ */
+public final class LeaderboardModel
+        extends AbstractListModel<AbstractPlayer> {
+
+    private final List<AbstractPlayer> ranking;
+    private final Map<AbstractPlayer, Integer> ranks;
+    private ToLongFunction<AbstractPlayer> score;
+
+    /**
+     * @param score Score of each player
+     */
+    public LeaderboardModel(ToLongFunction<AbstractPlayer> score) {
+        this.ranking = new ArrayList<>();
+        this.ranks = new IdentityHashMap<>();
+        this.score = score;
+    }
+
+    /**
+     * Replaces all players, ranking them from scratch
+     *
+     * @param players The players
+     */
+    public void setPlayers(List<AbstractPlayer> players) {
+        int oldSize = ranking.size();
+        ranking.clear();
+        ranking.addAll(players);
+        if (oldSize > 0) {
+            fireIntervalRemoved(this, 0, oldSize - 1);
+        }
+        rank();
+        if (!ranking.isEmpty()) {
+            fireIntervalAdded(this, 0, ranking.size() - 1);
+        }
+    }
+
+    /**
+     * Changes how players are scored, ranking them from scratch
+     *
+     * @param score Score of each player
+     */
+    public void setScore(ToLongFunction<AbstractPlayer> score) {
+        this.score = score;
+        rank();
+        if (!ranking.isEmpty()) {
+            fireContentsChanged(this, 0, ranking.size() - 1);
+        }
+    }
+
+    /**
+     * Moves a player whose score changed to its new rank
+     *
+     * @param player The player
+     */
+    public void update(AbstractPlayer player) {
+        Integer current = ranks.get(player);
+        if (current == null) {
+            return;
+        }
+
+        int from = current;
+        long value = score.applyAsLong(player);
+        int to;
+
+        if (from > 0 && value > score.applyAsLong(ranking.get(from - 1))) {
+            // Up: first rank above with a lower score
+            to = search(0, from, value);
+        } else if (from < ranking.size() - 1
+                && value < score.applyAsLong(ranking.get(from + 1))) {
+            // Down: after the last rank below with a higher or equal score
+            to = search(from + 1, ranking.size(), value) - 1;
+        } else {
+            fireContentsChanged(this, from, from);
+            return;
+        }
+
+        ranking.remove(from);
+        ranking.add(to, player);
+        for (int i = Math.min(from, to); i <= Math.max(from, to); i++) {
+            ranks.put(ranking.get(i), i);
+        }
+
+        fireIntervalRemoved(this, from, from);
+        fireIntervalAdded(this, to, to);
+    }
+
+    /**
+     * @return The players, highest score first
+     */
+    public List<AbstractPlayer> getRanking() {
+        return List.copyOf(ranking);
+    }
+
+    @Override
+    public int getSize() {
+        return ranking.size();
+    }
+
+    @Override
+    public AbstractPlayer getElementAt(int index) {
+        return ranking.get(index);
+    }
+
+    /**
+     * First index in [from, to) whose score is lower than the value
+     */
+    private int search(int from, int to, long value) {
+        while (from < to) {
+            int middle = (from + to) >>> 1;
+            if (score.applyAsLong(ranking.get(middle)) >= value) {
+                from = middle + 1;
+            } else {
+                to = middle;
+            }
+        }
+        return from;
+    }
+
+    private void rank() {
+        // Stable, ties keep their order
+        ranking.sort((a, b) -> Long.compare(
+                score.applyAsLong(b), score.applyAsLong(a)));
+        ranks.clear();
+        for (int i = 0; i < ranking.size(); i++) {
+            ranks.put(ranking.get(i), i);
+        }
+    }
+}
@@ -0,0 +1,164 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2025 Luis Guisso &lt;luis dot guisso at ifnmg dot edu dot br&gt;.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package io.github.guisso.meleemanager.gui;
+
+import io.github.guisso.jankenpon.Result;
+import java.awt.Dimension;
+import java.awt.Graphics;
+import java.awt.Insets;
+import java.awt.Rectangle;
+import java.util.Arrays;
+import javax.swing.Icon;
+import javax.swing.JPanel;
+
+/**
+ * Grid with the result of every turn of a melee, painted directly.
+ * <p>
+ * Results are kept in a compact array and drawn with their images, so a
+ * turn only repaints its own cell and nothing is allocated per turn,
+ * whatever the number of rows and columns.
+ *
+ * @author Luis Guisso &lt;luis dot guisso at ifnmg dot edu dot br&gt;
+ * @version 0.1
+ * @since 0.1, Oct 18, 2026
+ */
+public class MeleeGrid
+        extends JPanel {
+
+    private static final Result[] RESULTS = Result.values();
+    private static final byte EMPTY = -1;
+
+    private final int rows;
+    private final int columns;
+    private final int horizontalGap;
+    private final int verticalGap;
+
+    // Result ordinal of each cell
+    private final byte[] cells;
+
+    /**
+     * @param rows Rows
+     * @param columns Columns
+     * @param horizontalGap Space between columns
+     * @param verticalGap Space between rows
+     */
+    public MeleeGrid(int rows, int columns, int horizontalGap, int verticalGap) {
+        this.rows = rows;
+        this.columns = columns;
+        this.horizontalGap = horizontalGap;
+        this.verticalGap = verticalGap;
+        this.cells = new byte[rows * columns];
+        Arrays.fill(cells, EMPTY);
+
+        // Cells as large as the result images
+        int width = 0;
+        int height = 0;
+        for (Result result : RESULTS) {
+            if (result.IMAGE != null) {
+                width = Math.max(width, result.IMAGE.getIconWidth());
+                height = Math.max(height, result.IMAGE.getIconHeight());
+            }
+        }
+        setPreferredSize(new Dimension(
+                columns * (width + horizontalGap) - horizontalGap,
+                rows * (height + verticalGap) - verticalGap));
+    }
+
+    /**
+     * Shows the result of a turn
+     *
+     * @param turn Turn, starting at 0
+     * @param result Its result, null to clear the cell
+     */
+    public void setResult(int turn, Result result) {
+        int cell = turn % cells.length;
+        byte value = result == null ? EMPTY : (byte) result.ordinal();
+
+        if (cells[cell] != value) {
+            cells[cell] = value;
+            repaintCell(cell);
+        }
+    }
+
+    /**
+     * Empties every cell
+     */
+    public void clear() {
+        Arrays.fill(cells, EMPTY);
+        repaint();
+    }
+
+    @Override
+    protected void paintComponent(Graphics g) {
+        super.paintComponent(g);
+
+        Rectangle clip = g.getClipBounds();
+        Rectangle bounds = new Rectangle();
+
+        for (int cell = 0; cell < cells.length; cell++) {
+            if (cells[cell] == EMPTY) {
+                continue;
+            }
+
+            cellBounds(cell, bounds);
+            if (clip != null && !clip.intersects(bounds)) {
+                continue;
+            }
+
+            Icon icon = RESULTS[cells[cell]].IMAGE;
+            if (icon != null) {
+                icon.paintIcon(this, g,
+                        bounds.x + (bounds.width - icon.getIconWidth()) / 2,
+                        bounds.y + (bounds.height - icon.getIconHeight()) / 2);
+            }
+        }
+    }
+
+    private void repaintCell(int cell) {
+        Insets insets = getInsets();
+        int width = cellWidth(insets);
+        int height = cellHeight(insets);
+        repaint(insets.left + (cell % columns) * (width + horizontalGap),
+                insets.top + (cell / columns) * (height + verticalGap),
+                width, height);
+    }
+
+    private void cellBounds(int cell, Rectangle bounds) {
+        Insets insets = getInsets();
+        bounds.width = cellWidth(insets);
+        bounds.height = cellHeight(insets);
+        bounds.x = insets.left + (cell % columns) * (bounds.width + horizontalGap);
+        bounds.y = insets.top + (cell / columns) * (bounds.height + verticalGap);
+    }
+
+    private int cellWidth(Insets insets) {
+        int width = getWidth() - insets.left - insets.right;
+        return Math.max(0, (width - (columns - 1) * horizontalGap) / columns);
+    }
+
+    private int cellHeight(Insets insets) {
+        int height = getHeight() - insets.top - insets.bottom;
+        return Math.max(0, (height - (rows - 1) * verticalGap) / rows);
+    }
+}